@@ -0,0 +1,262 @@
+package com.aido.backend.controller;
+
+import com.aido.backend.AidoBackendApplication;
+import com.aido.backend.reactive.ReactiveUserApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 조회 API 부하 비교 - 서블릿 UserController vs user-reactive 모듈 (같은 users 테이블)
+// - 기본: 두 앱의 실제 컨텍스트를 같은 JVM에서 H2 메모리 DB(Flyway db/migration/h2 + bench.users명)로 띄움
+//   서블릿 앱은 캐시/검색 색인/필터 체인을 포함한 실제 경로 (요청마다 찍히는 DEBUG/세션 통계/요청 로그만 WARN으로 낮춤)
+// - bench.servlet.url / bench.reactive.url 이 있으면 실행 중인 앱에 요청 (예: MySQL에 연결한 두 앱)
+//   예: gradle jmh -PjmhIncludes=UserApiLoadBenchmark -Dbench.servlet.url=http://localhost:8080 -Dbench.reactive.url=http://localhost:8081
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class UserApiLoadBenchmark {
+
+    private static final int REQUESTS_PER_OP = 1000;
+
+    @Param({"servlet", "reactive"})
+    private String target;
+
+    @Param({"id", "search", "list"})
+    private String endpoint;
+
+    @Param({"256"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private Connection keepAlive;
+    private HttpClient client;
+    private String baseUrl;
+    private int users;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException, SQLException {
+        users = Integer.getInteger("bench.users", 1000);
+        baseUrl = System.getProperty(target.equals("servlet") ? "bench.servlet.url" : "bench.reactive.url");
+        if (baseUrl == null) {
+            String database = "userapi-" + UUID.randomUUID();
+            keepAlive = seed(database, users);
+            context = target.equals("servlet") ? startServlet(database) : startReactive(database);
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        random = new Random(7);
+        HttpResponse<Void> probe = client.send(request(), HttpResponse.BodyHandlers.discarding());
+        if (probe.statusCode() != 200) {
+            throw new IllegalStateException(target + " " + endpoint + " returned " + probe.statusCode());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (context != null) {
+            context.close();
+        }
+        if (keepAlive != null) {
+            keepAlive.close();
+        }
+    }
+
+    // 한 op = 동시 concurrency개로 제한한 요청 REQUESTS_PER_OP건 (결과 단위: op/s x 1000 = req/s)
+    @Benchmark
+    public int requests() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<Integer>> responses = new ArrayList<>(REQUESTS_PER_OP);
+        for (int i = 0; i < REQUESTS_PER_OP; i++) {
+            inFlight.acquire();
+            responses.add(client.sendAsync(request(), HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(response -> response.body().length)
+                    .whenComplete((bytes, error) -> inFlight.release()));
+        }
+        int total = 0;
+        for (CompletableFuture<Integer> response : responses) {
+            total += response.join();
+        }
+        return total;
+    }
+
+    private HttpRequest request() {
+        String path = switch (endpoint) {
+            case "id" -> "/api/users/" + (random.nextInt(users) + 1);
+            case "search" -> "/api/users/search?keyword=user" + random.nextInt(100) + "&limit=20";
+            default -> "/api/users?limit=20";
+        };
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    // 반환한 커넥션이 열려 있는 동안 메모리 DB 유지
+    private static Connection seed(String database, int users) throws SQLException {
+        String url = "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+        Connection connection = DriverManager.getConnection(url, "sa", "");
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (name, email, provider, created_at, updated_at, enabled) VALUES (?, ?, 'LOCAL', ?, ?, TRUE)")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 1; i <= users; i++) {
+                insert.setString(1, "User " + i + " Kim");
+                insert.setString(2, "user" + i + "@example.com");
+                insert.setTimestamp(3, now);
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return connection;
+    }
+
+    // 설정은 명령행 인자로 넘겨 application.yml 값보다 우선
+    private static ConfigurableApplicationContext startServlet(String database) {
+        return new SpringApplicationBuilder(AidoBackendApplication.class)
+                .web(WebApplicationType.SERVLET)
+                // 같은 classpath에 있는 user-reactive 모듈(com.aido.backend.reactive)은 스캔에서 제외
+                .initializers(context -> {
+                    context.getBeanFactory().registerSingleton("excludeReactiveModule", new ExcludeReactiveModule());
+                    context.getBeanFactory().registerSingleton("h2FetchSize", new H2FetchSize(database));
+                })
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--logging.level.com.aido.backend=INFO",
+                        "--logging.level.com.aido.backend.filter.RequestResponseLoggingFilter=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration");
+    }
+
+    // user-reactive/application.yml과 같은 값 (classpath의 application.yml은 서블릿 앱 것이라 읽지 않음)
+    // 서블릿 컨테이너도 classpath에 있으므로 단독 배포와 같게 Netty로 고정
+    private static ConfigurableApplicationContext startReactive(String database) {
+        return new SpringApplicationBuilder(ReactiveUserApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .initializers(context -> ((GenericApplicationContext) context)
+                        .registerBean(NettyReactiveWebServerFactory.class))
+                .run(
+                        "--spring.config.name=user-reactive-bench",
+                        "--server.port=0",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.r2dbc.pool.initial-size=10",
+                        "--spring.r2dbc.pool.max-size=20",
+                        "--aido.user.page.max-limit=100",
+                        "--logging.level.com.aido.backend=INFO",
+                        "--spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration,"
+                                + "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.security.oauth2.client.reactive.ReactiveOAuth2ClientAutoConfiguration");
+    }
+
+    // streamAll의 MySQL 전용 스트리밍 힌트(fetch size Integer.MIN_VALUE)를 H2는 거부하므로 음수 fetch size만 무시
+    private record H2FetchSize(String database) implements BeanPostProcessor {
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                JdbcDataSource h2 = new JdbcDataSource();
+                h2.setURL("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+                h2.setUser("sa");
+                hikari.setDataSource(ignoreNegativeFetchSize(h2, DataSource.class));
+            }
+            return bean;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> T ignoreNegativeFetchSize(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().equals("setFetchSize") && (int) args[0] < 0) {
+                    return null;
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection || result instanceof Statement) {
+                    return ignoreNegativeFetchSize(result, (Class) method.getReturnType());
+                }
+                return result;
+            }));
+        }
+    }
+
+    private static final class ExcludeReactiveModule extends TypeExcludeFilter {
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getClassMetadata().getClassName().startsWith("com.aido.backend.reactive.");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ExcludeReactiveModule;
+        }
+
+        @Override
+        public int hashCode() {
+            return ExcludeReactiveModule.class.hashCode();
+        }
+    }
+}
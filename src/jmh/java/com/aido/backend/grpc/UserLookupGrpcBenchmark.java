@@ -0,0 +1,185 @@
+package com.aido.backend.grpc;
+
+import com.aido.backend.cache.UserCache;
+import com.aido.backend.dto.UserBatchRequest;
+import com.aido.backend.dto.UserBatchResponse;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.grpc.proto.GetUserByIdRequest;
+import com.aido.backend.grpc.proto.GetUsersBatchRequest;
+import com.aido.backend.grpc.proto.GetUsersBatchResponse;
+import com.aido.backend.grpc.proto.User;
+import com.aido.backend.grpc.proto.UserLookupGrpc;
+import com.aido.backend.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 내부 서비스 조회 - REST(JSON, HTTP/1.1) vs gRPC(protobuf, HTTP/2) 왕복 지연
+// 양쪽 모두 같은 UserService(캐시에 올라간 사용자)를 호출하고 응답을 DTO로 역직렬화할 때까지 측정
+// REST 쪽은 Spring MVC 없이 JDK HttpServer + Jackson 이라 실제 UserController보다 유리한 조건
+// 응답 크기(바이트)는 Setup에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLookupGrpcBenchmark {
+
+    private static final int USERS = 10_000;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer restServer;
+    private HttpClient httpClient;
+    private String restUrl;
+
+    private Server grpcServer;
+    private ManagedChannel channel;
+    private UserLookupGrpc.UserLookupBlockingStub stub;
+
+    private Random random;
+    private List<Long> batchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        UserCache userCache = new UserCache(new ConcurrentMapCacheManager());
+        for (long id = 1; id <= USERS; id++) {
+            userCache.put(new UserDto(id, "User " + id, "user" + id + "@example.com"));
+        }
+        // 모든 조회가 캐시에서 끝나므로 repository 등은 쓰이지 않음
+        UserService userService = new UserService(null, userCache, null, null, null, null, null, new SimpleMeterRegistry(), null);
+
+        // JDK HttpServer 기본값은 Nagle 알고리즘이 켜져 있어 delayed ACK와 겹치면 요청마다 ~40ms 지연
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        restServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        restServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        restServer.createContext("/api/users/", exchange -> {
+            long id = Long.parseLong(exchange.getRequestURI().getPath().substring("/api/users/".length()));
+            writeJson(exchange, userService.getUserById(id).orElseThrow());
+        });
+        restServer.createContext("/api/users/batch", exchange -> {
+            UserBatchRequest request = objectMapper.readValue(exchange.getRequestBody(), UserBatchRequest.class);
+            writeJson(exchange, userService.getUsersBatch(request.getIds(), List.of()));
+        });
+        restServer.start();
+        restUrl = "http://127.0.0.1:" + restServer.getAddress().getPort() + "/api/users/";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        UserLookupGrpcService grpcService = new UserLookupGrpcService(userService);
+        setField(grpcService, "maxPageLimit", 100);
+        setField(grpcService, "maxBatchSize", 1000);
+        grpcServer = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .addService(grpcService)
+                .build()
+                .start();
+        channel = NettyChannelBuilder.forAddress("127.0.0.1", grpcServer.getPort()).usePlaintext().build();
+        stub = UserLookupGrpc.newBlockingStub(channel);
+
+        random = new Random(7);
+        batchIds = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batchIds.add((long) (random.nextInt(USERS) + 1));
+        }
+        printPayloadSizes(userService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.shutdownNow();
+        grpcServer.shutdownNow();
+        restServer.stop(0);
+    }
+
+    @Benchmark
+    public UserDto restGetById() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(restUrl + nextId())).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.readValue(response.body(), UserDto.class);
+    }
+
+    @Benchmark
+    public User grpcGetById() {
+        return stub.getUserById(GetUserByIdRequest.newBuilder().setId(nextId()).build());
+    }
+
+    @Benchmark
+    public UserBatchResponse restBatch() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(new UserBatchRequest(batchIds, List.of()));
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(restUrl + "batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.readValue(response.body(), UserBatchResponse.class);
+    }
+
+    @Benchmark
+    public GetUsersBatchResponse grpcBatch() {
+        return stub.getUsersBatch(GetUsersBatchRequest.newBuilder().addAllIds(batchIds).build());
+    }
+
+    // @Value 필드 (스프링 컨텍스트 없이 생성)
+    private static void setField(Object target, String name, int value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.setInt(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long nextId() {
+        return random.nextInt(USERS) + 1;
+    }
+
+    private void writeJson(HttpExchange exchange, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private void printPayloadSizes(UserService userService) throws IOException {
+        UserDto user = userService.getUserById(1L).orElseThrow();
+        UserBatchResponse batch = userService.getUsersBatch(batchIds, List.of());
+        GetUsersBatchResponse.Builder protoBatch = GetUsersBatchResponse.newBuilder();
+        batch.getById().values().forEach(found -> protoBatch.addUsers(UserLookupGrpcService.toProto(found)));
+        System.out.printf("payload bytes - single: json=%d proto=%d, batch(%d): json=%d proto=%d%n",
+                objectMapper.writeValueAsBytes(user).length,
+                UserLookupGrpcService.toProto(user).getSerializedSize(),
+                batchSize,
+                objectMapper.writeValueAsBytes(batch).length,
+                protoBatch.build().getSerializedSize());
+    }
+}
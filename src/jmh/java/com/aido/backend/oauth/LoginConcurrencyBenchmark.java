@@ -0,0 +1,146 @@
+package com.aido.backend.oauth;
+
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 동시 OAuth 로그인 처리량 - 플랫폼 스레드 풀(Tomcat 기본 max 200) vs 요청당 가상 스레드 (spring.threads.virtual.enabled)
+// 로그인 1건 = 토큰 교환 + userinfo 조회(각각 providerLatencyMs 지연) + provider id 조회(H2, Hikari 풀 10)
+// providerCall: sleep = 외부 호출 대기만 흉내, http = 로컬 HTTP 서버 호출 (같은 머신의 CPU를 나눠 쓰므로 코어가 충분할 때만 의미 있음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginConcurrencyBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int concurrentLogins;
+
+    @Param({"20"})
+    private int providerLatencyMs;
+
+    @Param({"sleep"})
+    private String providerCall;
+
+    private HttpServer provider;
+    private String providerUrl;
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        provider.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        provider.createContext("/", exchange -> {
+            try {
+                Thread.sleep(providerLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"sub\":\"google-42\",\"name\":\"User 42\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        provider.start();
+        providerUrl = "http://127.0.0.1:" + provider.getAddress().getPort();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:login-threads;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(10);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_login_users");
+            statement.execute("CREATE TABLE bench_login_users (id BIGINT PRIMARY KEY, provider VARCHAR(20) NOT NULL, " +
+                    "provider_id VARCHAR(100), name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE INDEX idx_bench_login_provider ON bench_login_users (provider, provider_id)");
+            for (int id = 1; id <= 1000; id++) {
+                statement.execute("INSERT INTO bench_login_users VALUES (" + id + ", 'GOOGLE', 'google-" + id
+                        + "', 'User " + id + "', 'user" + id + "@example.com')");
+            }
+        }
+
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+        provider.stop(0);
+    }
+
+    @Benchmark
+    public int concurrentLogins() throws Exception {
+        List<Future<Integer>> logins = new ArrayList<>(concurrentLogins);
+        for (int i = 0; i < concurrentLogins; i++) {
+            int userId = i % 1000 + 1;
+            logins.add(executor.submit(() -> login(userId)));
+        }
+        int found = 0;
+        for (Future<Integer> login : logins) {
+            found += login.get();
+        }
+        return found;
+    }
+
+    // DefaultOAuth2UserService 기본 RestTemplate과 같은 HttpURLConnection 기반 블로킹 호출
+    private int login(int userId) throws IOException, SQLException {
+        call("/token");
+        call("/userinfo");
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement query = connection.prepareStatement(
+                     "SELECT id, name, email FROM bench_login_users WHERE provider = ? AND provider_id = ?")) {
+            query.setString(1, "GOOGLE");
+            query.setString(2, "google-" + userId);
+            try (ResultSet rs = query.executeQuery()) {
+                return rs.next() ? 1 : 0;
+            }
+        }
+    }
+
+    private void call(String path) throws IOException {
+        if (providerCall.equals("sleep")) {
+            try {
+                Thread.sleep(providerLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return;
+        }
+        HttpURLConnection connection = (HttpURLConnection) URI.create(providerUrl + path).toURL().openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            in.readAllBytes();
+        }
+    }
+}
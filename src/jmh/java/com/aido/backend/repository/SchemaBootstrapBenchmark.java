@@ -0,0 +1,94 @@
+package com.aido.backend.repository;
+
+import com.aido.backend.entity.User;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.internal.ExceptionHandlerHaltImpl;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.tool.schema.spi.SchemaManagementTool;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.hibernate.tool.schema.spi.ScriptTargetOutput;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 시작 시 Hibernate 스키마 처리 단계만 비교 - ddl-auto update(기존) vs validate(Flyway 도입 후)
+// 스키마는 Flyway db/migration/h2로 미리 생성하고, 매핑 메타데이터는 한 번만 만들어 재사용
+// 기본은 H2 메모리 DB, -Dbench.jdbc.url 로 실제 MySQL 지정 가능 (스키마가 이미 migrate된 DB)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SchemaBootstrapBenchmark {
+
+    @Param({"update", "validate"})
+    private String ddlAuto;
+
+    private StandardServiceRegistry registry;
+    private Metadata metadata;
+    private SchemaManagementTool tool;
+    private Map<String, Object> settings;
+    private ExecutionOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:bootstrap;DB_CLOSE_DELAY=-1");
+        String username = System.getProperty("bench.jdbc.username", "sa");
+        String password = System.getProperty("bench.jdbc.password", "");
+        if (url.startsWith("jdbc:h2:")) {
+            Flyway.configure()
+                    .dataSource(url, username, password)
+                    .locations("classpath:db/migration/h2")
+                    .load()
+                    .migrate();
+        }
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", url)
+                .applySetting("hibernate.connection.username", username)
+                .applySetting("hibernate.connection.password", password)
+                .applySetting("hibernate.cache.use_second_level_cache", "false")
+                .build();
+        metadata = new MetadataSources(registry).addAnnotatedClass(User.class).buildMetadata();
+        // 부팅 시 ddl-auto 처리와 같은 경로 (SchemaManagementToolCoordinator가 쓰는 migrator/validator)
+        tool = registry.getService(SchemaManagementTool.class);
+        settings = registry.requireService(ConfigurationService.class).getSettings();
+        options = SchemaManagementToolCoordinator.buildExecutionOptions(settings, ExceptionHandlerHaltImpl.INSTANCE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public void schema() {
+        if (ddlAuto.equals("update")) {
+            tool.getSchemaMigrator(settings).doMigration(metadata, options, ContributableMatcher.ALL, DATABASE);
+        } else {
+            tool.getSchemaValidator(settings).doValidation(metadata, options, ContributableMatcher.ALL);
+        }
+    }
+
+    private static final TargetDescriptor DATABASE = new TargetDescriptor() {
+        @Override
+        public EnumSet<TargetType> getTargetTypes() {
+            return EnumSet.of(TargetType.DATABASE);
+        }
+
+        @Override
+        public ScriptTargetOutput getScriptTargetOutput() {
+            return null;
+        }
+    };
+}
@@ -0,0 +1,92 @@
+package com.aido.backend.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// OAuth 로그인 조회 findByProviderAndProviderId - (provider, provider_id) 색인 유무 비교 (V2 migration)
+// 기본은 H2(MySQL 모드) 메모리 DB, -Dbench.jdbc.url 로 실제 MySQL 지정 가능 (bench_login_users 테이블을 생성/삭제함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLoginQueryBenchmark {
+
+    private static final String[] PROVIDERS = {"LOCAL", "GOOGLE", "APPLE", "KAKAO"};
+
+    @Param({"100000"})
+    private int users;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement loginQuery;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:login;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.username", "sa"), System.getProperty("bench.jdbc.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_login_users");
+            statement.execute("CREATE TABLE bench_login_users (id BIGINT PRIMARY KEY, provider VARCHAR(20) NOT NULL, " +
+                    "provider_id VARCHAR(100), name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_login_users (id, provider, provider_id, name, email) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= users; id++) {
+                String provider = PROVIDERS[id % PROVIDERS.length];
+                insert.setLong(1, id);
+                insert.setString(2, provider);
+                insert.setString(3, provider.equals("LOCAL") ? null : provider.toLowerCase() + "-" + id);
+                insert.setString(4, "User " + id);
+                insert.setString(5, "user" + id + "@example.com");
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        if (indexed) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX idx_bench_login_provider ON bench_login_users (provider, provider_id)");
+            }
+        }
+        loginQuery = connection.prepareStatement(
+                "SELECT id, name, email FROM bench_login_users WHERE provider = ? AND provider_id = ?");
+        random = new Random(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_login_users");
+        }
+        loginQuery.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public long findByProviderAndProviderId() throws SQLException {
+        // LOCAL(id % 4 == 0)이 아닌 사용자 중 임의 선택
+        int id = random.nextInt(users / 4) * 4 + 1;
+        String provider = PROVIDERS[id % PROVIDERS.length];
+        loginQuery.setString(1, provider);
+        loginQuery.setString(2, provider.toLowerCase() + "-" + id);
+        try (ResultSet rs = loginQuery.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1L;
+        }
+    }
+}
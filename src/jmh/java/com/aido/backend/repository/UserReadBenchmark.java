@@ -0,0 +1,138 @@
+package com.aido.backend.repository;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.entity.User;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 목록/검색 조회: 관리 엔티티 -> DTO 복사 vs 읽기 전용 세션 엔티티 vs DTO 생성자 projection
+// 할당량 비교: gradle jmh -PjmhIncludes=UserReadBenchmark -PjmhProfilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserReadBenchmark {
+
+    private static final String LIST_ENTITIES = "SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id";
+    private static final String LIST_DTOS =
+            "SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email) FROM User u WHERE u.id > :afterId ORDER BY u.id";
+    private static final String SEARCH_ENTITIES =
+            "SELECT u FROM User u WHERE (u.name LIKE :pattern OR u.email LIKE :pattern) AND u.id > :afterId ORDER BY u.id";
+    private static final String SEARCH_DTOS =
+            "SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email) FROM User u " +
+            "WHERE (u.name LIKE :pattern OR u.email LIKE :pattern) AND u.id > :afterId ORDER BY u.id";
+
+    @Param({"100"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private long afterId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty("hibernate.connection.url", System.getProperty("bench.jdbc.url", "jdbc:h2:mem:reads;MODE=MySQL;DB_CLOSE_DELAY=-1"))
+                .setProperty("hibernate.connection.username", System.getProperty("bench.jdbc.username", "sa"))
+                .setProperty("hibernate.connection.password", System.getProperty("bench.jdbc.password", ""))
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.cache.use_second_level_cache", "false")
+                .setProperty("hibernate.jdbc.batch_size", "500")
+                .buildSessionFactory();
+
+        Random random = new Random(7);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < 20_000; i++) {
+                String name = (random.nextBoolean() ? "Kim " : "Lee ") + Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+                session.insert(new User(name, "user" + i + "@example.com"));
+            }
+            session.getTransaction().commit();
+        }
+        afterId = 5_000;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 기존 방식: 관리 엔티티 로드 후 convertToDto, 커밋 시 dirty check
+    @Benchmark
+    public List<UserDto> listManagedEntities() {
+        return inSession(false, session -> session.createQuery(LIST_ENTITIES, User.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .list().stream()
+                .map(UserReadBenchmark::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    // 읽기 전용 트랜잭션만 적용 - 스냅샷과 flush 생략, 엔티티 생성은 그대로
+    @Benchmark
+    public List<UserDto> listReadOnlyEntities() {
+        return inSession(true, session -> session.createQuery(LIST_ENTITIES, User.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .list().stream()
+                .map(UserReadBenchmark::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<UserDto> listDtoProjection() {
+        return inSession(true, session -> session.createQuery(LIST_DTOS, UserDto.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .list());
+    }
+
+    @Benchmark
+    public List<UserDto> searchManagedEntities() {
+        return inSession(false, session -> session.createQuery(SEARCH_ENTITIES, User.class)
+                .setParameter("pattern", "%kim%")
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .list().stream()
+                .map(UserReadBenchmark::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<UserDto> searchDtoProjection() {
+        return inSession(true, session -> session.createQuery(SEARCH_DTOS, UserDto.class)
+                .setParameter("pattern", "%kim%")
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .list());
+    }
+
+    // Spring의 @Transactional(readOnly = true)와 같은 세션 설정
+    private <T> T inSession(boolean readOnly, java.util.function.Function<Session, T> work) {
+        try (Session session = sessionFactory.openSession()) {
+            if (readOnly) {
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
+            session.beginTransaction();
+            T result = work.apply(session);
+            session.getTransaction().commit();
+            return result;
+        }
+    }
+
+    private static UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,110 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// trigram 색인 vs users.findByKeyword 와 같은 LIKE 쿼리
+// 기본은 H2(MySQL 모드) 메모리 DB, -Dbench.jdbc.url 로 실제 MySQL 지정 가능 (bench_users 테이블을 생성/삭제함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSearchBenchmark {
+
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "Smith", "Kim", "Lee", "Park", "Choi"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "John", "Jane", "Minho", "Jisoo", "Alex", "Sora"};
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    @Param({"kim", "민준", "example.com", "zzz"})
+    private String keyword;
+
+    private UserSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<UserDto> rows = generate(users);
+
+        index = new UserSearchIndex();
+        index.rebuild(rows.iterator());
+
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.username", "sa"), System.getProperty("bench.jdbc.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_users");
+            statement.execute("CREATE TABLE bench_users (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench_users (id, name, email) VALUES (?, ?, ?)")) {
+            int batched = 0;
+            for (UserDto user : rows) {
+                insert.setLong(1, user.getId());
+                insert.setString(2, user.getName());
+                insert.setString(3, user.getEmail());
+                insert.addBatch();
+                if (++batched % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        likeQuery = connection.prepareStatement(
+                "SELECT id, name, email FROM bench_users WHERE name LIKE ? OR email LIKE ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_users");
+        }
+        likeQuery.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<UserDto> trigramIndex() {
+        return index.search(keyword);
+    }
+
+    @Benchmark
+    public void sqlLike(Blackhole blackhole) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        likeQuery.setString(1, pattern);
+        likeQuery.setString(2, pattern);
+        try (ResultSet rs = likeQuery.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(new UserDto(rs.getLong(1), rs.getString(2), rs.getString(3)));
+            }
+        }
+    }
+
+    static List<UserDto> generate(int count) {
+        Random random = new Random(7);
+        List<UserDto> rows = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            String family = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            String given = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+            String local = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+            String domain = random.nextInt(3) == 0 ? "example.com" : "mail" + random.nextInt(50) + ".net";
+            rows.add(new UserDto(id, family + " " + given, local + "@" + domain));
+        }
+        return rows;
+    }
+}
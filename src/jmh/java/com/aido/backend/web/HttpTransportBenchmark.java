@@ -0,0 +1,165 @@
+package com.aido.backend.web;
+
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.util.CursorCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 전송 프로파일(application-http2.yml) 비교 - HTTP/1.1 vs h2c, 압축 없음 vs gzip
+// 대상: /api/users (목록 JSON), /login (Thymeleaf 페이지)
+// - bench.url이 있으면 실행 중인 앱에 요청 (http2 프로파일로 띄우고, /api/users는 로그인 세션 쿠키 필요)
+//   예: gradle jmh -PjmhIncludes=HttpTransportBenchmark -Dbench.url=http://localhost:8080 -Dbench.cookie=JSESSIONID=...
+// - 없으면 같은 yml로 설정한 내장 Tomcat이 같은 모양의 응답(UserDto 목록, login.html 원본)을 반환
+// 응답 본문 바이트(압축 후)와 헤더 바이트(HTTP/1.1 평문 기준, h2는 HPACK으로 더 작음)는 Trial 종료 시 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class HttpTransportBenchmark {
+
+    @Param({"http1", "h2c"})
+    private String protocol;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    @Param({"users", "login"})
+    private String endpoint;
+
+    @Param({"100"})
+    private int limit;
+
+    private WebServer server;
+    private HttpClient client;
+    private HttpRequest request;
+    private long responses;
+    private long bodyBytes;
+    private long headerBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        String baseUrl = System.getProperty("bench.url");
+        if (baseUrl == null) {
+            server = startEmbeddedServer(limit);
+            baseUrl = "http://localhost:" + server.getPort();
+        }
+        client = HttpClient.newBuilder()
+                .version(protocol.equals("h2c") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String path = endpoint.equals("users") ? "/api/users?limit=" + limit : "/login";
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", endpoint.equals("users") ? "application/json" : "text/html")
+                .header("Accept-Encoding", encoding)
+                .GET();
+        String cookie = System.getProperty("bench.cookie");
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        request = builder.build();
+
+        // h2c는 첫 요청의 Upgrade로 협상되므로 Setup에서 연결을 맺고 결과 프로토콜 확인
+        HttpResponse<byte[]> probe = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (probe.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + probe.statusCode());
+        }
+        if (protocol.equals("h2c") && probe.version() != HttpClient.Version.HTTP_2) {
+            throw new IllegalStateException("h2c was not negotiated - is the http2 profile active?");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (responses > 0) {
+            System.out.printf("%n[%s %s %s] body bytes/response: %d, header bytes/response: %d%n",
+                    protocol, encoding, endpoint, bodyBytes / responses, headerBytes / responses);
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public int request() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        responses++;
+        bodyBytes += response.body().length;
+        headerBytes += headerSize(response.headers());
+        return response.statusCode();
+    }
+
+    private static long headerSize(HttpHeaders headers) {
+        long size = 0;
+        for (Map.Entry<String, List<String>> header : headers.map().entrySet()) {
+            for (String value : header.getValue()) {
+                // "name: value\r\n"
+                size += header.getKey().length() + value.length() + 4;
+            }
+        }
+        return size;
+    }
+
+    // application-http2.yml의 server 설정을 그대로 바인딩해서 사용
+    private static WebServer startEmbeddedServer(int limit) throws IOException {
+        ServerProperties properties = new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load("http2", new ClassPathResource("application-http2.yml"))))
+                .bind("server", ServerProperties.class)
+                .get();
+
+        byte[] users = new ObjectMapper().writeValueAsBytes(usersPage(limit));
+        byte[] login = new ClassPathResource("templates/login.html").getContentAsByteArray();
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.setHttp2(properties.getHttp2());
+        factory.setCompression(properties.getCompression());
+        WebServer webServer = factory.getWebServer(context -> context.addServlet("bench", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                boolean isUsers = req.getRequestURI().startsWith("/api/users");
+                byte[] body = isUsers ? users : login;
+                resp.setContentType(isUsers ? "application/json" : "text/html;charset=UTF-8");
+                if (isUsers) {
+                    resp.setHeader("ETag", "W/\"p-bench\"");
+                }
+                resp.setContentLength(body.length);
+                resp.getOutputStream().write(body);
+            }
+        }).addMapping("/*"));
+        webServer.start();
+        return webServer;
+    }
+
+    private static CursorPage<UserDto> usersPage(int limit) {
+        List<UserDto> items = new ArrayList<>(limit);
+        for (int i = 1; i <= limit; i++) {
+            items.add(new UserDto((long) i, "User " + i + " Kim", "user" + i + "@example.com"));
+        }
+        return new CursorPage<>(items, CursorCodec.encodeId((long) limit));
+    }
+}
@@ -0,0 +1,68 @@
+package com.aido.backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// 같은 키의 동시 조회를 하나로 합침 - 먼저 온 호출이 loader를 실행하고 나머지는 그 결과(또는 예외)를 공유
+// - 완료되면 바로 빠지므로 결과를 보관하지 않음 (보관은 호출 측 캐시 담당)
+// - aido.user.lookup{by, result=loaded|coalesced} 카운터로 합쳐진 조회 수를 기록
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+
+    public SingleFlight(MeterRegistry meterRegistry, String by) {
+        this.loaded = Counter.builder("aido.user.lookup")
+                .description("User lookups that ran a database load")
+                .tag("by", by)
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("aido.user.lookup")
+                .description("User lookups that joined an in-flight load for the same key")
+                .tag("by", by)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        loaded.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
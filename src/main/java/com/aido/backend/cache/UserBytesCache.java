@@ -0,0 +1,117 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.event.UserChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 단건 조회 응답 본문을 형식/필드 조합별로 미리 인코딩해 둔 캐시
+// - id 하나에 모든 표현을 묶어 두어 UserChangedEvent 한 번으로 전부 무효화
+// - 무효화 이후 예전 항목에 기록된 값은 캐시에서 떨어져 나간 객체라 다시 읽히지 않음
+// - 항목마다 인코딩한 행의 updatedAt을 보관 - 무효화 전에 읽은 행으로 무효화 후에 만든 항목이
+//   새 버전의 ETag로 응답되지 않도록 요청한 DTO와 버전이 같을 때만 재사용
+@Component
+public class UserBytesCache {
+
+    public static final String USER_BYTES = "user-bytes";
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final int SLOTS_PER_FORMAT = 1 << UserFieldSet.Field.values().length;
+
+    // id -> Entry
+    private final Cache userBytes;
+    private final ObjectMapper[] mappers = new ObjectMapper[Format.values().length];
+
+    // CBOR/Smile은 JSON과 같은 설정을 따르도록 애플리케이션 빌더로 생성
+    @Autowired
+    public UserBytesCache(CacheManager cacheManager, ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.userBytes = cacheManager.getCache(USER_BYTES);
+        this.mappers[Format.JSON.ordinal()] = objectMapper;
+        this.mappers[Format.CBOR.ordinal()] = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.mappers[Format.SMILE.ordinal()] = objectMapperBuilder.factory(new SmileFactory()).build();
+    }
+
+    // 호출자가 이미 조회한 DTO를 인코딩 - 같은 버전으로 인코딩해 둔 값이 있으면 재사용
+    public byte[] get(UserDto user, Format format, UserFieldSet fields) {
+        LocalDateTime version = user.getUpdatedAt();
+        Entry entry = userBytes.get(user.getId(), () -> new Entry(version));
+        if (!Objects.equals(entry.version, version)) {
+            if (!isNewer(version, entry.version)) {
+                // 캐시된 항목보다 오래된 행 - 이 요청에만 인코딩해서 반환
+                return encode(fields.apply(user), format);
+            }
+            entry = new Entry(version);
+            userBytes.put(user.getId(), entry);
+        }
+        int slot = format.ordinal() * SLOTS_PER_FORMAT + fields.getMask();
+        byte[] cached = entry.bytes.get(slot);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] encoded = encode(fields.apply(user), format);
+        entry.bytes.set(slot, encoded);
+        return encoded;
+    }
+
+    public void evict(Long id) {
+        userBytes.evict(id);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    private byte[] encode(UserDto user, Format format) {
+        try {
+            return mappers[format.ordinal()].writeValueAsBytes(user);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // updatedAt이 없는 행(bulk 생성 이벤트 등)은 어떤 버전보다도 오래된 것으로 취급
+    private static boolean isNewer(LocalDateTime version, LocalDateTime than) {
+        return version != null && (than == null || version.isAfter(than));
+    }
+
+    private static final class Entry {
+        private final LocalDateTime version;
+        private final AtomicReferenceArray<byte[]> bytes =
+                new AtomicReferenceArray<>(Format.values().length * SLOTS_PER_FORMAT);
+
+        private Entry(LocalDateTime version) {
+            this.version = version;
+        }
+    }
+}
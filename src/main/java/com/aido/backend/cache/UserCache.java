@@ -0,0 +1,83 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Component
+public class UserCache {
+
+    public static final String USERS = "users";
+    public static final String USER_EMAILS = "user-emails";
+
+    // id -> UserDto
+    private final Cache users;
+    // email -> id (조회 시 users 캐시의 이메일과 대조해서 검증)
+    private final Cache userEmails;
+
+    @Autowired
+    public UserCache(CacheManager cacheManager) {
+        this.users = cacheManager.getCache(USERS);
+        this.userEmails = cacheManager.getCache(USER_EMAILS);
+    }
+
+    public UserDto getById(Long id) {
+        return users.get(id, UserDto.class);
+    }
+
+    public UserDto getByEmail(String email) {
+        String key = emailKey(email);
+        Long id = userEmails.get(key, Long.class);
+        if (id == null) {
+            return null;
+        }
+        UserDto user = getById(id);
+        if (user == null || !key.equals(emailKey(user.getEmail()))) {
+            // 이메일이 변경되었거나 users 캐시에서 먼저 만료된 경우
+            userEmails.evict(key);
+            return null;
+        }
+        return user;
+    }
+
+    public void put(UserDto user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        users.put(user.getId(), user);
+        if (user.getEmail() != null) {
+            userEmails.put(emailKey(user.getEmail()), user.getId());
+        }
+    }
+
+    public void evict(Long id) {
+        users.evict(id);
+    }
+
+    public void evictEmail(String email) {
+        if (email != null) {
+            userEmails.evict(emailKey(email));
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+        if (event.getPrevious() != null) {
+            evictEmail(event.getPrevious().getEmail());
+        }
+        if (event.getCurrent() != null) {
+            put(event.getCurrent());
+        }
+    }
+
+    private String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,345 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import com.aido.backend.search.InMemoryUserView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// email 존재 여부를 DB 없이 "확실히 없음"으로 답하기 위한 필터
+// - 등록된 email 전체에 대한 counting Bloom filter (UserSnapshotLoader가 재구축, UserChangedEvent로 증감)
+// - DB에서 없다고 확인된 email은 짧은 TTL 동안 negative cache에 보관 (필터 오탐이 반복 조회되지 않도록)
+//   조회 도중 변경 이벤트가 있었다면 보관하지 않음 (생성과 경합한 조회 결과로 오염되지 않도록)
+// - 재구축 전에는 negative cache만 사용하고 나머지는 모두 DB로
+// - 다른 노드/직접 SQL로 추가된 사용자는 UserSnapshotLoader의 주기적 따라잡기/재구축 전까지 "없음"일 수 있으므로
+//   가입/연결처럼 결과를 근거로 쓰기를 하는 경로에서는 사용하지 않음
+@Component
+public class UserEmailFilter extends InMemoryUserView<UserEmailFilter.CountingBloomFilter> {
+
+    private final int expectedUsers;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> absentEmails;
+    // 변경 이벤트 수 - 조회 시작 시점과 비교해서 negative cache 기록 여부 결정
+    private final AtomicLong changes = new AtomicLong();
+
+    private final Counter negativeCacheHits;
+    private final Counter filterAbsent;
+    private final Counter present;
+    private final Counter falsePositives;
+
+    @Autowired
+    public UserEmailFilter(MeterRegistry meterRegistry,
+                           @Value("${aido.user.email-filter.expected-users:1000000}") int expectedUsers,
+                           @Value("${aido.user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                           @Value("${aido.user.email-filter.negative-ttl:30s}") Duration negativeTtl,
+                           @Value("${aido.user.email-filter.negative-max-size:100000}") long negativeMaxSize) {
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.absentEmails = Caffeine.newBuilder()
+                .expireAfterWrite(negativeTtl)
+                .maximumSize(negativeMaxSize)
+                .build();
+        this.negativeCacheHits = checkCounter(meterRegistry, "negative_cache");
+        this.filterAbsent = checkCounter(meterRegistry, "filter_absent");
+        this.present = checkCounter(meterRegistry, "present");
+        this.falsePositives = checkCounter(meterRegistry, "false_positive");
+        // 필터가 "있을 수 있음"이라고 했지만 DB에 없던 비율 (등록되지 않은 email 조회 기준)
+        Gauge.builder("aido.user.email.filter.false.positive.rate", this, UserEmailFilter::observedFalsePositiveRate)
+                .description("Share of unregistered email lookups the Bloom filter could not rule out")
+                .register(meterRegistry);
+    }
+
+    // true면 등록되지 않은 email - DB 조회 생략 가능
+    public boolean isDefinitelyAbsent(String email) {
+        if (email == null) {
+            return true;
+        }
+        String key = emailKey(email);
+        if (absentEmails.getIfPresent(key) != null) {
+            negativeCacheHits.increment();
+            return true;
+        }
+        if (isReady() && !read(filter -> filter.mightContain(fingerprint(key)))) {
+            filterAbsent.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // DB 조회 직전에 받아 두었다가 recordLookup에 전달
+    public long changeCount() {
+        return changes.get();
+    }
+
+    // isDefinitelyAbsent가 false였던 email의 DB 조회 결과
+    public void recordLookup(String email, boolean found, long changeCountBeforeLookup) {
+        if (found) {
+            present.increment();
+            return;
+        }
+        if (changes.get() == changeCountBeforeLookup) {
+            absentEmails.put(emailKey(email), Boolean.TRUE);
+        }
+        if (isReady()) {
+            falsePositives.increment();
+        }
+    }
+
+    public <T> Optional<T> find(String email, Supplier<Optional<T>> query) {
+        if (isDefinitelyAbsent(email)) {
+            return Optional.empty();
+        }
+        long changeCount = changeCount();
+        Optional<T> result = query.get();
+        recordLookup(email, result.isPresent(), changeCount);
+        return result;
+    }
+
+    public double observedFalsePositiveRate() {
+        double negatives = falsePositives.count() + filterAbsent.count();
+        return negatives == 0 ? 0.0 : falsePositives.count() / negatives;
+    }
+
+    @Override
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        changes.incrementAndGet();
+        super.onUserChanged(event);
+        if (event.getCurrent() != null && event.getCurrent().getEmail() != null) {
+            absentEmails.invalidate(emailKey(event.getCurrent().getEmail()));
+        }
+    }
+
+    @Override
+    protected CountingBloomFilter newState() {
+        // 상위 클래스 초기화 중(설정 주입 전)에 만들어지는 첫 상태는 재구축 전까지 조회에 쓰이지 않음
+        return new CountingBloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @Override
+    protected void upsert(CountingBloomFilter filter, UserDto user) {
+        if (user.getEmail() == null) {
+            filter.remove(user.getId());
+        } else {
+            filter.put(user.getId(), fingerprint(emailKey(user.getEmail())));
+        }
+    }
+
+    @Override
+    protected void remove(CountingBloomFilter filter, Long id) {
+        filter.remove(id);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("aido.user.email.check")
+                .description("Email existence checks by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    // FNV-1a 64 + murmur3 finalizer
+    static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // 칸마다 8비트 카운터 - 255에 도달한 칸은 더 이상 줄이지 않음 (거짓 음성 방지)
+    // id별 fingerprint를 보관해서 이전 상태가 없는 이벤트에서도 email 변경/삭제를 반영
+    static final class CountingBloomFilter {
+        private final byte[] counters;
+        private final int hashCount;
+        private final FingerprintTable fingerprints = new FingerprintTable();
+
+        CountingBloomFilter(int expectedUsers, double falsePositiveRate) {
+            int n = Math.max(expectedUsers, 1);
+            double p = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : 0.01;
+            long size = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+            this.counters = new byte[(int) Math.min(Math.max(size, 64), Integer.MAX_VALUE - 8)];
+            this.hashCount = Math.max(1, (int) Math.round((double) counters.length / n * Math.log(2)));
+        }
+
+        private void put(long id, long fingerprint) {
+            if (fingerprints.contains(id)) {
+                long previous = fingerprints.put(id, fingerprint);
+                if (previous == fingerprint) {
+                    return;
+                }
+                add(previous, -1);
+            } else {
+                fingerprints.put(id, fingerprint);
+            }
+            add(fingerprint, 1);
+        }
+
+        private void remove(long id) {
+            if (fingerprints.contains(id)) {
+                add(fingerprints.remove(id), -1);
+            }
+        }
+
+        private boolean mightContain(long fingerprint) {
+            int h1 = (int) fingerprint;
+            int h2 = (int) (fingerprint >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                if (counters[index(h1, h2, i)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(long fingerprint, int delta) {
+            int h1 = (int) fingerprint;
+            int h2 = (int) (fingerprint >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                int count = counters[index] & 0xFF;
+                if (count == 0xFF || (delta < 0 && count == 0)) {
+                    continue;
+                }
+                counters[index] = (byte) (count + delta);
+            }
+        }
+
+        // Kirsch-Mitzenmacher: 해시 두 개로 k개 위치
+        private int index(int h1, int h2, int i) {
+            return Math.floorMod(h1 + i * h2, counters.length);
+        }
+    }
+
+    // id -> fingerprint, 선형 탐사 open addressing
+    // HashMap<Long, Long>은 항목당 약 70~80B (Node + Long 두 개 + 테이블 칸), 여기서는 칸당 16B에 적재율 0.375~0.75
+    static final class FingerprintTable {
+        // IDENTITY로 생성된 id는 양수
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long[] keys;
+        private long[] values;
+        private int size;
+
+        FingerprintTable() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        boolean contains(long id) {
+            return indexOf(id) >= 0;
+        }
+
+        // 이전 값 (없었으면 0 - contains로 먼저 확인)
+        long put(long id, long value) {
+            int index = indexOf(id);
+            if (index >= 0) {
+                long previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            insert(id, value);
+            size++;
+            return 0L;
+        }
+
+        // 제거된 값 (없었으면 0 - contains로 먼저 확인)
+        long remove(long id) {
+            int gap = indexOf(id);
+            if (gap < 0) {
+                return 0L;
+            }
+            long previous = values[gap];
+            int mask = keys.length - 1;
+            // 뒤따르는 항목 중 탐사 경로에 빈칸이 생기는 것을 앞으로 당김 (tombstone 없이 삭제)
+            for (int i = (gap + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+                int home = slot(keys[i], mask);
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+            }
+            keys[gap] = EMPTY;
+            size--;
+            return previous;
+        }
+
+        private int indexOf(long id) {
+            int mask = keys.length - 1;
+            for (int i = slot(id, mask); keys[i] != EMPTY; i = (i + 1) & mask) {
+                if (keys[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(long id, long value) {
+            int mask = keys.length - 1;
+            int i = slot(id, mask);
+            while (keys[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = id;
+            values[i] = value;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        // 연속된 id가 한 구간에 몰리지 않도록 섞음
+        private static int slot(long id, int mask) {
+            long hash = id * 0x9e3779b97f4a7c15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.aido.backend.config;
+
+import com.aido.backend.datasource.ReadWriteRoutingDataSource;
+import com.aido.backend.datasource.ReplicaLagMonitor;
+import com.aido.backend.datasource.ReplicaProperties;
+import com.aido.backend.datasource.SqlStatsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// 쓰기는 primary, 읽기 전용 트랜잭션은 replica(aido.datasource.replicas)로 보냄
+// replica가 없으면 모든 요청이 primary로 감
+@Configuration
+@EnableScheduling
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("aido.datasource")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties,
+                                               ReplicaProperties replicaProperties,
+                                               @Value("${aido.datasource.replica-lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                               @Value("${aido.datasource.replica-max-lag-seconds:5}") long maxLagSeconds) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicaProperties.Replica replica : replicaProperties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : properties.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.getPassword());
+            dataSource.setDriverClassName(properties.getDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setPoolName("replica-" + replicas.size());
+            replicas.add(dataSource);
+        }
+        return new ReplicaLagMonitor(replicas, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaLagMonitor.getReplicas(), replicaLagMonitor);
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 커넥션을 고르도록 지연
+    // SqlStatsDataSource는 요청별 SQL 통계(one line log, aido.request.db.* 메트릭) 수집용
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(new SqlStatsDataSource(routingDataSource));
+    }
+}
@@ -1,6 +1,18 @@
 package com.aido.backend.controller;
 
+import com.aido.backend.cache.UserBytesCache;
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchRequest;
+import com.aido.backend.dto.UserBatchResponse;
+import com.aido.backend.dto.UserBulkCreateResponse;
 import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.dto.UserImportJob;
+import com.aido.backend.dto.UserPage;
+import com.aido.backend.dto.UserVersion;
+import com.aido.backend.service.UserBulkService;
+import com.aido.backend.service.UserExportService;
+import com.aido.backend.service.UserImportService;
 import com.aido.backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,12 +23,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/users")
@@ -24,24 +48,141 @@ import java.util.Optional;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
+    private final UserBulkService userBulkService;
+    private final UserImportService userImportService;
+
+    @Value("${aido.user.page.max-limit:100}")
+    private int maxPageLimit;
+
+    @Value("${aido.user.suggest.max-limit:20}")
+    private int maxSuggestLimit;
+
+    @Value("${aido.user.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${aido.user.bulk.max-size:10000}")
+    private int maxBulkSize;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserExportService userExportService,
+                          UserBulkService userBulkService, UserImportService userImportService) {
         this.userService = userService;
+        this.userExportService = userExportService;
+        this.userBulkService = userBulkService;
+        this.userImportService = userImportService;
     }
 
-    @Operation(summary = "Get all users", description = "Retrieve a list of all users")
+    @Operation(summary = "Get users page", description = "Retrieve users ordered by ID using an opaque cursor")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved users",
                 content = @Content(mediaType = "application/json", 
-                        schema = @Schema(implementation = UserDto.class)))
+                        schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
+    public ResponseEntity<CursorPage<UserDto>> getUsers(
+            @Parameter(description = "Cursor returned as 'next' by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageLimit = Math.min(limit, maxPageLimit);
+        UserFieldSet fieldSet = UserFieldSet.orAll(fields);
+        try {
+            // 목록도 Accept에 따라 JSON/CBOR/Smile 컨버터가 선택됨
+            UserPage page = userService.getUsersPage(cursor, pageLimit, fieldSet);
+            Optional<UserVersion> version = page.getVersion()
+                    .map(v -> v.forRepresentation(representation(userFormat(accept), fieldSet)));
+            if (isNotModified(request, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+            }
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(page.getPage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get all users", description = "Retrieve a list of all users without paging (explicit opt-in)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved users",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = UserDto.class)))
+    })
+    @GetMapping(params = "unpaged=true")
+    public ResponseEntity<List<UserDto>> getAllUsers(
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields) {
+        List<UserDto> users = userService.getAllUsers(UserFieldSet.orAll(fields));
         return ResponseEntity.ok(users);
     }
 
+    @Operation(summary = "Export all users",
+            description = "Stream all users as newline-delimited JSON, or as a CBOR/Smile value sequence per Accept")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream of users",
+                content = {@Content(mediaType = "application/x-ndjson"),
+                           @Content(mediaType = "application/cbor"),
+                           @Content(mediaType = "application/x-jackson-smile")})
+    })
+    @GetMapping(value = "/export",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Compress the stream with gzip") @RequestParam(defaultValue = "false") boolean gzip,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        UserExportService.Format format = exportFormat(accept);
+        UserFieldSet fieldSet = UserFieldSet.orAll(fields);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                userExportService.export(gzipOut, format, fieldSet);
+                gzipOut.finish();
+            } else {
+                userExportService.export(out, format, fieldSet);
+            }
+        };
+
+        String extension = format == UserExportService.Format.NDJSON ? "ndjson" : format.name().toLowerCase(Locale.ROOT);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=users." + extension);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // Accept의 q 값 순서대로 처음 맞는 형식 (없거나 */* 이면 NDJSON)
+    private static UserExportService.Format exportFormat(String accept) {
+        return negotiate(accept, UserExportService.Format.values(),
+                UserExportService.Format::getMediaType, UserExportService.Format.NDJSON);
+    }
+
+    // 단건 조회 형식 (없거나 */* 이면 JSON)
+    private static UserBytesCache.Format userFormat(String accept) {
+        return negotiate(accept, UserBytesCache.Format.values(),
+                UserBytesCache.Format::getMediaType, UserBytesCache.Format.JSON);
+    }
+
+    private static <F> F negotiate(String accept, F[] formats, Function<F, MediaType> mediaTypeOf, F fallback) {
+        if (accept == null || accept.isBlank()) {
+            return fallback;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            for (F format : formats) {
+                if (mediaType.isCompatibleWith(mediaTypeOf.apply(format))) {
+                    return format;
+                }
+            }
+        }
+        return fallback;
+    }
+
     @Operation(summary = "Get user by ID", description = "Retrieve a user by their ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User found",
@@ -49,25 +190,106 @@ public class UserController {
                         schema = @Schema(implementation = UserDto.class))),
         @ApiResponse(responseCode = "404", description = "User not found")
     })
-    @GetMapping("/{id}")
-    public ResponseEntity<UserDto> getUserById(
-            @Parameter(description = "User ID") @PathVariable Long id) {
-        Optional<UserDto> user = userService.getUserById(id);
-        return user.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
+    @GetMapping(value = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public ResponseEntity<byte[]> getUserById(
+            @Parameter(description = "User ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        return userResponse(userService.getUserById(id), userFormat(accept), UserFieldSet.orAll(fields), request);
     }
 
-    @GetMapping("/email/{email}")
-    public ResponseEntity<UserDto> getUserByEmail(@PathVariable String email) {
-        Optional<UserDto> user = userService.getUserByEmail(email);
-        return user.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
+    @GetMapping(value = "/email/{email}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public ResponseEntity<byte[]> getUserByEmail(
+            @PathVariable String email,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        return userResponse(userService.getUserByEmail(email), userFormat(accept), UserFieldSet.orAll(fields), request);
     }
 
+    // 검증값은 캐시된 UserDto에서 계산하고 형식/fields를 ETag에 포함 - 형식이 Accept로 갈리므로 Vary: Accept
+    private ResponseEntity<byte[]> userResponse(Optional<UserDto> user, UserBytesCache.Format format,
+                                                UserFieldSet fields, WebRequest request) {
+        if (user.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<UserVersion> version = userService.getUserVersion(user.get())
+                .map(v -> v.forRepresentation(representation(format, fields)));
+        if (isNotModified(request, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        byte[] body = userService.getUserBytes(user.get(), format, fields);
+        return ResponseEntity.ok().contentType(format.getMediaType()).varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    @Operation(summary = "Search users", description = "Search users by name or email, one page at a time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching users",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
     @GetMapping("/search")
-    public ResponseEntity<List<UserDto>> searchUsers(@RequestParam String keyword) {
-        List<UserDto> users = userService.searchUsers(keyword);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CursorPage<UserDto>> searchUsers(
+            @Parameter(description = "Keyword matched against name and email") @RequestParam String keyword,
+            @Parameter(description = "Cursor returned as 'next' by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            CursorPage<UserDto> page = userService.searchUsers(keyword, cursor, Math.min(limit, maxPageLimit));
+            return ResponseEntity.ok(UserFieldSet.orAll(fields).apply(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Suggest users", description = "Prefix autocomplete on name, name words and email served from memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users whose name or email starts with the prefix",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = UserDto.class)))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<UserDto>> suggestUsers(
+            @Parameter(description = "Prefix typed so far") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<UserDto> users = userService.suggestUsers(prefix, Math.min(limit, maxSuggestLimit));
+        return ResponseEntity.ok(UserFieldSet.orAll(fields).apply(users));
+    }
+
+    @Operation(summary = "Get users in batch", description = "Resolve many user IDs and/or emails in one request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users keyed by requested identifier, null for missing",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = UserBatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Too many identifiers requested")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<UserBatchResponse> getUsersBatch(
+            @Parameter(description = "IDs and emails to resolve") @RequestBody UserBatchRequest request,
+            @Parameter(description = "Comma-separated fields to include (id,name,email), all when omitted") @RequestParam(required = false) UserFieldSet fields) {
+        List<Long> ids = request.getIds() != null ? request.getIds() : List.of();
+        List<String> emails = request.getEmails() != null ? request.getEmails() : List.of();
+        if (ids.size() + emails.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        UserBatchResponse response = userService.getUsersBatch(ids, emails);
+        UserFieldSet fieldSet = UserFieldSet.orAll(fields);
+        if (!fieldSet.isAll()) {
+            response.getById().replaceAll((id, user) -> user != null ? fieldSet.apply(user) : null);
+            response.getByEmail().replaceAll((email, user) -> user != null ? fieldSet.apply(user) : null);
+        }
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Create new user", description = "Create a new user")
@@ -88,6 +310,55 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "Create users in bulk", description = "Validate and insert many users with JDBC batching, reporting an outcome per row")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-row outcome (CREATED, DUPLICATE, INVALID, FAILED)",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = UserBulkCreateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Too many rows requested")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<UserBulkCreateResponse> createUsers(
+            @Parameter(description = "Users to create") @RequestBody List<UserDto> users) {
+        if (users.size() > maxBulkSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(userBulkService.createUsers(users));
+    }
+
+    @Operation(summary = "Import users from CSV", description = "Start an asynchronous import of a CSV file with name and email columns")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import job accepted",
+                content = @Content(mediaType = "application/json", 
+                        schema = @Schema(implementation = UserImportJob.class))),
+        @ApiResponse(responseCode = "400", description = "Empty file")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportJob> importUsers(
+            @Parameter(description = "CSV file") @RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        UserImportJob job = userImportService.startImport(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(summary = "Get import job", description = "Progress and outcome of a CSV import job")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<UserImportJob> getImportJob(@PathVariable String jobId) {
+        Optional<UserImportJob> job = userImportService.getJob(jobId);
+        return job.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Cancel import job", description = "Stop a running CSV import after the current chunk")
+    @DeleteMapping("/import/{jobId}")
+    public ResponseEntity<UserImportJob> cancelImportJob(@PathVariable String jobId) {
+        Optional<UserImportJob> job = userImportService.cancel(jobId);
+        return job.map(value -> ResponseEntity.status(HttpStatus.ACCEPTED).body(value))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @Valid @RequestBody UserDto userDto) {
         try {
@@ -107,4 +378,16 @@ public class UserController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // ETag에 덧붙이는 표현 구분자 (형식.fields)
+    private static String representation(UserBytesCache.Format format, UserFieldSet fields) {
+        return format.name().toLowerCase(Locale.ROOT) + "." + fields.getMask();
+    }
+
+    // If-None-Match/If-Modified-Since 처리 - 변경이 없으면 304를 설정
+    // (ETag, Last-Modified 헤더는 200 응답에도 함께 설정됨)
+    private boolean isNotModified(WebRequest request, Optional<UserVersion> version) {
+        return version.isPresent()
+                && request.checkNotModified(version.get().getEtag(), version.get().getLastModified());
+    }
+}
@@ -0,0 +1,68 @@
+package com.aido.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 replica, 그 외는 primary
+// - 트랜잭션 속성이 정해진 뒤에 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+// - 사용 가능한 replica가 없거나 같은 요청에서 이미 쓰기를 했다면 primary
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaLagMonitor lagMonitor) {
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.hasWritten()) {
+            return PRIMARY;
+        }
+        List<Integer> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        int index = healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+        return REPLICA_PREFIX + index;
+    }
+
+    // primary는 별도 빈이라 컨테이너가 닫고, replica 풀만 여기서 닫음
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.aido.backend.datasource;
+
+// 한 요청 안에서 쓰기가 일어난 뒤의 읽기는 primary로 보내기 위한 스레드 로컬 표시
+// - ReadYourWritesFilter가 요청 시작/종료 시 begin/clear
+// - 요청 밖(배치 작업 스레드 등)에서는 표시하지 않음
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> WROTE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {}
+
+    public static void begin() {
+        WROTE.set(Boolean.FALSE);
+    }
+
+    public static void markWrite() {
+        if (WROTE.get() != null) {
+            WROTE.set(Boolean.TRUE);
+        }
+    }
+
+    public static boolean hasWritten() {
+        return Boolean.TRUE.equals(WROTE.get());
+    }
+
+    public static void clear() {
+        WROTE.remove();
+    }
+}
@@ -0,0 +1,92 @@
+package com.aido.backend.datasource;
+
+import com.aido.backend.util.LoggingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 주기적으로 replica 복제 지연을 확인해서 허용치를 넘거나 확인에 실패한 replica는 라우팅에서 제외
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final List<DataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    // 1 = 사용 가능, 0 = 제외
+    private final AtomicIntegerArray healthy;
+
+    public ReplicaLagMonitor(List<DataSource> replicas, String lagQuery, long maxLagSeconds) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isHealthy(int replica) {
+        return healthy.get(replica) == 1;
+    }
+
+    public void setHealthy(int replica, boolean value) {
+        if (healthy.getAndSet(replica, value ? 1 : 0) != (value ? 1 : 0)) {
+            Map<String, Object> logInfo = new HashMap<>();
+            logInfo.put("replica", replica);
+            logInfo.put("healthy", value);
+            LoggingUtils.logInfo(logger, "replica_routing_changed", logInfo);
+        }
+    }
+
+    public List<Integer> healthyReplicas() {
+        List<Integer> result = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            if (isHealthy(i)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${aido.datasource.replica-lag-check-interval-ms:5000}")
+    public void checkLag() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            setHealthy(i, isWithinLag(replicas.get(i)));
+        }
+    }
+
+    // MySQL: SHOW REPLICA STATUS 의 Seconds_Behind_Source (NULL이면 복제 중단)
+    private boolean isWithinLag(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return false;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return !rs.wasNull() && lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            logger.warn("Replica lag check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
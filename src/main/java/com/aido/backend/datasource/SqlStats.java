@@ -0,0 +1,63 @@
+package com.aido.backend.datasource;
+
+// 요청 하나가 DB에서 쓴 문장 수, 읽은 행 수, 누적 시간
+// - RequestResponseLoggingFilter가 begin/end로 요청 범위를 정하고 SqlStatsDataSource가 누적
+// - 스트리밍 응답은 본문을 쓰는 비동기 스레드에 attach로 이어 붙임
+// - 한 시점에는 한 스레드만 쓰고 스레드 간 전달은 executor/AsyncContext가 순서를 보장하므로 동기화하지 않음
+public class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    public static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    // 다른 스레드에서 시작된 요청의 통계를 현재 스레드에 연결 - 작업이 끝나면 end()로 해제
+    public static void attach(SqlStats stats) {
+        CURRENT.set(stats);
+    }
+
+    public static SqlStats end() {
+        SqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void recordFetch(boolean hasRow, long elapsedNanos) {
+        if (hasRow) {
+            rows++;
+        }
+        nanos += elapsedNanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getMillis() {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,94 @@
+package com.aido.backend.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// JDBC 호출을 감싸서 현재 요청의 SqlStats에 문장 수/행 수/DB 시간을 누적
+// - 실행(execute*)과 행 읽기(ResultSet.next)에 걸린 시간을 DB 시간으로 봄
+// - 커넥션을 얻을 때 진행 중인 SqlStats가 없으면(요청 밖) 감싸지 않고 그대로 반환
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        SqlStats stats = SqlStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement, stats);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, SqlStats stats) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    Object result = invoke(statement, method, args);
+                    return result instanceof ResultSet rs ? wrapResultSet(rs, stats) : result;
+                } finally {
+                    stats.recordStatement(System.nanoTime() - start);
+                }
+            }
+            Object result = invoke(statement, method, args);
+            return result instanceof ResultSet rs ? wrapResultSet(rs, stats) : result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, SqlStats stats) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            if (method.getName().equals("next")) {
+                long start = System.nanoTime();
+                boolean hasRow = (Boolean) invoke(resultSet, method, args);
+                stats.recordFetch(hasRow, System.nanoTime() - start);
+                return hasRow;
+            }
+            return invoke(resultSet, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aido.backend.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    // 다음 페이지 커서 - 마지막 페이지면 null
+    private String next;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
@@ -0,0 +1,34 @@
+package com.aido.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserBatchRequest {
+
+    private List<Long> ids = new ArrayList<>();
+
+    private List<String> emails = new ArrayList<>();
+
+    public UserBatchRequest() {}
+
+    public UserBatchRequest(List<Long> ids, List<String> emails) {
+        this.ids = ids;
+        this.emails = emails;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<String> emails) {
+        this.emails = emails;
+    }
+}
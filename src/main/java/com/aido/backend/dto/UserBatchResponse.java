@@ -0,0 +1,52 @@
+package com.aido.backend.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class UserBatchResponse {
+
+    // 요청한 식별자 순서 유지, 없는 사용자는 null
+    private Map<Long, UserDto> byId = new LinkedHashMap<>();
+
+    private Map<String, UserDto> byEmail = new LinkedHashMap<>();
+
+    private List<Long> missingIds = new ArrayList<>();
+
+    private List<String> missingEmails = new ArrayList<>();
+
+    public UserBatchResponse() {}
+
+    public Map<Long, UserDto> getById() {
+        return byId;
+    }
+
+    public void setById(Map<Long, UserDto> byId) {
+        this.byId = byId;
+    }
+
+    public Map<String, UserDto> getByEmail() {
+        return byEmail;
+    }
+
+    public void setByEmail(Map<String, UserDto> byEmail) {
+        this.byEmail = byEmail;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+
+    public List<String> getMissingEmails() {
+        return missingEmails;
+    }
+
+    public void setMissingEmails(List<String> missingEmails) {
+        this.missingEmails = missingEmails;
+    }
+}
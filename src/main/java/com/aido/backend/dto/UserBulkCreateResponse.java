@@ -0,0 +1,49 @@
+package com.aido.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserBulkCreateResponse {
+
+    private int created;
+    private int rejected;
+
+    private List<UserBulkRowResult> results = new ArrayList<>();
+
+    public UserBulkCreateResponse() {}
+
+    public UserBulkCreateResponse(List<UserBulkRowResult> results) {
+        this.results = results;
+        for (UserBulkRowResult result : results) {
+            if (result.getStatus() == UserBulkRowResult.Status.CREATED) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<UserBulkRowResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<UserBulkRowResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,76 @@
+package com.aido.backend.dto;
+
+public class UserBulkRowResult {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    // 요청 목록에서의 0부터 시작하는 위치
+    private int index;
+    private String email;
+    private Status status;
+    private Long id;
+    private String message;
+
+    public UserBulkRowResult() {}
+
+    public UserBulkRowResult(int index, String email, Status status, Long id, String message) {
+        this.index = index;
+        this.email = email;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public static UserBulkRowResult created(int index, UserDto user) {
+        return new UserBulkRowResult(index, user.getEmail(), Status.CREATED, user.getId(), null);
+    }
+
+    public static UserBulkRowResult rejected(int index, String email, Status status, String message) {
+        return new UserBulkRowResult(index, email, status, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
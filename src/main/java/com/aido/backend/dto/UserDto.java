@@ -1,8 +1,13 @@
 package com.aido.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.LocalDateTime;
+
+@JsonSerialize(using = UserDtoSerializer.class)
 public class UserDto {
     
     private Long id;
@@ -14,6 +19,14 @@ public class UserDto {
     @Email(message = "Email should be valid")
     private String email;
     
+    // 응답에 쓸 필드 (null이면 전체) - 캐시에 있는 인스턴스는 바꾸지 않고 withFields로 복사본에만 지정
+    @JsonIgnore
+    private UserFieldSet fieldSet;
+    
+    // 조건부 GET 검증값 (ETag/Last-Modified) - 캐시에 함께 보관해서 버전 조회 쿼리를 생략, 응답에는 포함하지 않음
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+    
     public UserDto() {}
     
     public UserDto(Long id, String name, String email) {
@@ -22,6 +35,11 @@ public class UserDto {
         this.email = email;
     }
     
+    public UserDto(Long id, String name, String email, LocalDateTime updatedAt) {
+        this(id, name, email);
+        this.updatedAt = updatedAt;
+    }
+    
     public Long getId() {
         return id;
     }
@@ -45,4 +63,20 @@ public class UserDto {
     public void setEmail(String email) {
         this.email = email;
     }
-}
\ No newline at end of file
+    
+    @JsonIgnore
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    @JsonIgnore
+    public UserFieldSet getFieldSet() {
+        return fieldSet;
+    }
+    
+    public UserDto withFields(UserFieldSet fieldSet) {
+        UserDto copy = new UserDto(id, name, email, updatedAt);
+        copy.fieldSet = fieldSet;
+        return copy;
+    }
+}
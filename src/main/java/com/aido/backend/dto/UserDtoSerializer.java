@@ -0,0 +1,20 @@
+package com.aido.backend.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// UserDto에 붙은 UserFieldSet(없으면 전체)의 필드만 기록 - JSON/CBOR/Smile 공통
+public class UserDtoSerializer extends StdSerializer<UserDto> {
+
+    public UserDtoSerializer() {
+        super(UserDto.class);
+    }
+
+    @Override
+    public void serialize(UserDto user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        UserFieldSet.orAll(user.getFieldSet()).write(user, generator);
+    }
+}
@@ -0,0 +1,153 @@
+package com.aido.backend.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+// fields= 파라미터로 고른 UserDto 필드 조합
+// - 조합은 최대 7개라 모두 미리 만들어 두고 같은 인스턴스를 재사용
+// - 각 인스턴스는 필드 순서와 미리 인코딩한 이름을 갖고 있어 직렬화 때 리플렉션/필터 판단이 없음
+// - 쿼리 파라미터 변환은 Spring이 valueOf(String)를 사용 (잘못된 이름은 400)
+public final class UserFieldSet {
+
+    public enum Field {
+        ID("id"),
+        NAME("name"),
+        EMAIL("email");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String getJsonName() {
+            return jsonName;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final UserFieldSet[] SETS = new UserFieldSet[1 << FIELDS.length];
+
+    static {
+        for (int mask = 1; mask < SETS.length; mask++) {
+            SETS[mask] = new UserFieldSet(mask);
+        }
+    }
+
+    public static final UserFieldSet ALL = SETS[SETS.length - 1];
+
+    private final int mask;
+    private final Field[] fields;
+    private final SerializedString[] names;
+
+    private UserFieldSet(int mask) {
+        this.mask = mask;
+        List<Field> selected = new ArrayList<>();
+        for (Field field : FIELDS) {
+            if ((mask & bit(field)) != 0) {
+                selected.add(field);
+            }
+        }
+        this.fields = selected.toArray(new Field[0]);
+        this.names = new SerializedString[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = new SerializedString(fields[i].getJsonName());
+        }
+    }
+
+    // "id,name" 형태, 비어 있으면 전체
+    public static UserFieldSet valueOf(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            mask |= bit(fieldOf(trimmed));
+        }
+        return mask == 0 ? ALL : SETS[mask];
+    }
+
+    public static UserFieldSet orAll(UserFieldSet fields) {
+        return fields != null ? fields : ALL;
+    }
+
+    public boolean includes(Field field) {
+        return (mask & bit(field)) != 0;
+    }
+
+    // 1..7 - 조합별 캐시 슬롯 인덱스로 사용
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    public Field[] getFields() {
+        return fields.clone();
+    }
+
+    public UserDto apply(UserDto user) {
+        return isAll() ? user : user.withFields(this);
+    }
+
+    public List<UserDto> apply(List<UserDto> users) {
+        return isAll() ? users : users.stream().map(this::apply).toList();
+    }
+
+    public CursorPage<UserDto> apply(CursorPage<UserDto> page) {
+        return isAll() ? page : new CursorPage<>(apply(page.getItems()), page.getNext());
+    }
+
+    void write(UserDto user, JsonGenerator generator) throws IOException {
+        generator.writeStartObject(user);
+        for (int i = 0; i < fields.length; i++) {
+            generator.writeFieldName(names[i]);
+            switch (fields[i]) {
+                case ID -> {
+                    if (user.getId() != null) {
+                        generator.writeNumber(user.getId());
+                    } else {
+                        generator.writeNull();
+                    }
+                }
+                case NAME -> generator.writeString(user.getName());
+                case EMAIL -> generator.writeString(user.getEmail());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static Field fieldOf(String name) {
+        for (Field field : FIELDS) {
+            if (field.getJsonName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown user field: " + name);
+    }
+
+    private static int bit(Field field) {
+        return 1 << field.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Field field : fields) {
+            joiner.add(field.getJsonName());
+        }
+        return joiner.toString();
+    }
+}
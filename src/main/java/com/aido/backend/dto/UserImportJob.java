@@ -0,0 +1,135 @@
+package com.aido.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    // 수백만 행 파일에서도 메모리가 늘지 않도록 보고할 문제 행 수 제한
+    public static final int MAX_REPORTED_ISSUES = 1000;
+
+    private final String id;
+    private final String fileName;
+    // 공용 ObjectMapper에 JavaTimeModule이 없으므로 ISO-8601 문자열로 보관
+    private final String createdAt = Instant.now().toString();
+    private volatile Status status = Status.QUEUED;
+    private volatile String finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<UserBulkRowResult> issues = new ArrayList<>();
+
+    public UserImportJob(String id, String fileName) {
+        this.id = id;
+        this.fileName = fileName;
+    }
+
+    public void record(UserBulkRowResult result) {
+        processed.incrementAndGet();
+        switch (result.getStatus()) {
+            case CREATED -> created.incrementAndGet();
+            case DUPLICATE -> duplicates.incrementAndGet();
+            case INVALID -> invalid.incrementAndGet();
+            case FAILED -> failed.incrementAndGet();
+        }
+        if (result.getStatus() != UserBulkRowResult.Status.CREATED) {
+            synchronized (issues) {
+                if (issues.size() < MAX_REPORTED_ISSUES) {
+                    issues.add(result);
+                }
+            }
+        }
+    }
+
+    public void start() {
+        status = Status.RUNNING;
+    }
+
+    public void finish(Status finalStatus, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now().toString();
+        this.status = finalStatus;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    @JsonIgnore
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getCreated() {
+        return created.get();
+    }
+
+    public long getDuplicates() {
+        return duplicates.get();
+    }
+
+    public long getInvalid() {
+        return invalid.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    // 행 번호(index)는 헤더를 제외한 0부터 시작하는 데이터 행 위치
+    public List<UserBulkRowResult> getIssues() {
+        synchronized (issues) {
+            return List.copyOf(issues);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.aido.backend.dto;
+
+import java.util.Optional;
+
+// 목록 페이지와 그 버전 - 둘 다 같은 조회 결과(limit + 1행)에서 계산해서 본문과 ETag가 어긋나지 않음
+public class UserPage {
+
+    private final CursorPage<UserDto> page;
+    private final UserVersion version;
+
+    public UserPage(CursorPage<UserDto> page, UserVersion version) {
+        this.page = page;
+        this.version = version;
+    }
+
+    public CursorPage<UserDto> getPage() {
+        return page;
+    }
+
+    // 빈 페이지면 empty
+    public Optional<UserVersion> getVersion() {
+        return Optional.ofNullable(version);
+    }
+}
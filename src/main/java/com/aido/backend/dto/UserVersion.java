@@ -0,0 +1,61 @@
+package com.aido.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+
+// 조건부 GET 검증용 - 엔티티 전체 대신 (id, updatedAt)만 조회해서 ETag/Last-Modified 계산
+// - 같은 버전이 형식(Accept), fields, Content-Encoding별로 다른 바이트가 되므로 약한 ETag
+//   (Tomcat 응답 압축은 강한 ETag가 붙은 응답을 건너뜀), 형식/fields는 forRepresentation으로 ETag에 포함
+// - updatedAt은 LocalDateTime.now()로 기록되므로 JVM 기본 시간대로 해석
+public class UserVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    public UserVersion(Long id, LocalDateTime updatedAt) {
+        long updatedMillis = updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        this.etag = "W/\"" + id + "-" + updatedMillis + "\"";
+        // updatedAt이 없으면 Last-Modified 생략
+        this.lastModified = updatedAt != null ? updatedMillis : -1L;
+    }
+
+    private UserVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // 목록 페이지 - 구성원(id)과 각 버전이 모두 같을 때만 같은 ETag
+    public static UserVersion combine(List<UserVersion> versions) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        long lastModified = -1L;
+        for (UserVersion version : versions) {
+            digest.update(version.etag.getBytes(StandardCharsets.US_ASCII));
+            lastModified = Math.max(lastModified, version.lastModified);
+        }
+        String hash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+        return new UserVersion("W/\"p-" + hash + "\"", lastModified);
+    }
+
+    // 같은 버전의 다른 표현(형식, fields)이 서로의 ETag와 일치하지 않도록 구분자를 덧붙임
+    public UserVersion forRepresentation(String representation) {
+        return new UserVersion(etag.substring(0, etag.length() - 1) + "." + representation + "\"", lastModified);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
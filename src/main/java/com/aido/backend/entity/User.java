@@ -2,10 +2,20 @@ package com.aido.backend.entity;
 
 import com.aido.backend.enums.AuthProvider;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_provider_provider_id", columnList = "provider, provider_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id")
 public class User {
     
     @Id
@@ -15,6 +25,7 @@ public class User {
     @Column(nullable = false)
     private String name;
     
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
     
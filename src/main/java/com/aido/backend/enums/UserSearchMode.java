@@ -0,0 +1,10 @@
+package com.aido.backend.enums;
+
+public enum UserSearchMode {
+    // users 테이블에 LIKE %keyword% 쿼리
+    LIKE,
+    // 애플리케이션 메모리의 trigram 역색인
+    INDEX,
+    // MySQL FULLTEXT 색인(ngram parser) - 관련도 순
+    FULLTEXT
+}
@@ -0,0 +1,54 @@
+package com.aido.backend.event;
+
+import com.aido.backend.dto.UserDto;
+
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final UserDto previous;
+    private final UserDto current;
+
+    public UserChangedEvent(Type type, Long userId, UserDto previous, UserDto current) {
+        this.type = type;
+        this.userId = userId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static UserChangedEvent created(UserDto current) {
+        return new UserChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static UserChangedEvent updated(UserDto previous, UserDto current) {
+        return new UserChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static UserChangedEvent deleted(Long userId, UserDto previous) {
+        return new UserChangedEvent(Type.DELETED, userId, previous, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    // 변경 전 상태 - 알 수 없는 경우 null
+    public UserDto getPrevious() {
+        return previous;
+    }
+
+    // 변경 후 상태 - 삭제된 경우 null
+    public UserDto getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,26 @@
+package com.aido.backend.filter;
+
+import com.aido.backend.datasource.ReadYourWritesContext;
+import jakarta.servlet.*;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 요청 단위로 read-your-writes 표시를 시작하고 끝에서 지움
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        ReadYourWritesContext.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.aido.backend.filter;
 
+import com.aido.backend.datasource.SqlStats;
 import com.aido.backend.util.LoggingUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.slf4j.MDC;
@@ -16,6 +26,8 @@ import org.slf4j.MDC;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,6 +35,15 @@ import java.util.stream.Collectors;
 public class RequestResponseLoggingFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+    private static final String SQL_STATS_INTERCEPTOR_KEY = RequestResponseLoggingFilter.class.getName() + ".SQL_STATS";
+
+    // 메트릭 자동 설정이 없는 슬라이스 테스트(@WebMvcTest)에서는 MeterRegistry 빈이 없음
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired
+    public RequestResponseLoggingFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -31,27 +52,142 @@ public class RequestResponseLoggingFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
+        // 비동기 처리 후 재디스패치는 최초 요청에서 이미 기록하므로 그대로 통과
+        if (httpRequest.getDispatcherType() == DispatcherType.ASYNC) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (isStreamingRequest(httpRequest)) {
+            doFilterStreaming(httpRequest, httpResponse, chain);
+            return;
+        }
+
         ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(httpRequest);
         ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(httpResponse);
 
         long startTime = System.currentTimeMillis();
+        SqlStats.begin();
 
         try {
             chain.doFilter(requestWrapper, responseWrapper);
         } finally {
             long duration = System.currentTimeMillis() - startTime;
+            SqlStats sqlStats = SqlStats.end();
+            recordSqlMetrics(httpRequest, sqlStats);
             
             // 302 리다이렉션 체크
             if (isRedirection(responseWrapper.getStatus()) && isOAuthRelated(requestWrapper)) {
                 logOAuthRedirection(requestWrapper, responseWrapper);
             }
             
-            logOneLineApi(requestWrapper, responseWrapper, duration);
+            logOneLineApi(requestWrapper, responseWrapper, duration, sqlStats);
             responseWrapper.copyBodyToResponse();
         }
     }
 
-    private void logOneLineApi(ContentCachingRequestWrapper request, ContentCachingResponseWrapper response, long duration) {
+    // 스트리밍 응답은 본문을 버퍼링하지 않고 그대로 내보냄 (ContentCachingResponseWrapper는 전체 본문을 메모리에 보관)
+    // StreamingResponseBody는 MVC 비동기 스레드에서 본문을 쓰므로 SqlStats를 그 스레드에 이어 붙이고
+    // 본문까지 끝난 시점(AsyncListener.onComplete)에 기록
+    private void doFilterStreaming(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        long startTime = System.currentTimeMillis();
+        SqlStats sqlStats = SqlStats.begin();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(SQL_STATS_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void preProcess(NativeWebRequest webRequest, Callable<T> task) {
+                        SqlStats.attach(sqlStats);
+                    }
+
+                    @Override
+                    public <T> void postProcess(NativeWebRequest webRequest, Callable<T> task, Object result) {
+                        SqlStats.end();
+                    }
+                });
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStats.end();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        logStreaming(request, response, startTime, sqlStats);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                logStreaming(request, response, startTime, sqlStats);
+            }
+        }
+    }
+
+    private void logStreaming(HttpServletRequest request, HttpServletResponse response, long startTime,
+                              SqlStats sqlStats) {
+        long duration = System.currentTimeMillis() - startTime;
+        recordSqlMetrics(request, sqlStats);
+        String uri = request.getRequestURI();
+        if (request.getQueryString() != null) {
+            uri += "?" + request.getQueryString();
+        }
+        LoggingUtils.logOneLineApi(logger, request.getMethod(), uri, getImportantHeaders(request), null,
+                                 response.getStatus(), null, null, duration, toLogFields(sqlStats));
+    }
+
+    // endpoint 태그는 매핑된 URI 패턴(/api/users/{id})을 사용해 카디널리티를 제한
+    private void recordSqlMetrics(HttpServletRequest request, SqlStats sqlStats) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("aido.request.db.statements")
+                .tag("method", method).tag("endpoint", endpoint)
+                .register(registry)
+                .record(sqlStats.getStatements());
+        DistributionSummary.builder("aido.request.db.rows")
+                .tag("method", method).tag("endpoint", endpoint)
+                .register(registry)
+                .record(sqlStats.getRows());
+        Timer.builder("aido.request.db.time")
+                .tag("method", method).tag("endpoint", endpoint)
+                .register(registry)
+                .record(sqlStats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Map<String, Long> toLogFields(SqlStats sqlStats) {
+        Map<String, Long> fields = new LinkedHashMap<>();
+        fields.put("db_statements", sqlStats.getStatements());
+        fields.put("db_rows", sqlStats.getRows());
+        fields.put("db_time_ms", sqlStats.getMillis());
+        return fields;
+    }
+
+    // 파일 업로드(multipart)도 요청 본문을 메모리에 복사하지 않도록 같은 경로로 처리
+    private boolean isStreamingRequest(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return request.getRequestURI().endsWith("/export")
+                || (contentType != null && contentType.startsWith("multipart/"));
+    }
+
+    private void logOneLineApi(ContentCachingRequestWrapper request, ContentCachingResponseWrapper response, long duration,
+                               SqlStats sqlStats) {
         String method = request.getMethod();
         String uri = request.getRequestURI();
         if (request.getQueryString() != null) {
@@ -62,7 +198,9 @@ public class RequestResponseLoggingFilter implements Filter {
         Map<String, String> requestHeaders = getImportantHeaders(request);
         
         // Request body 수집
-        String requestBody = getStringValue(request.getContentAsByteArray(), request.getCharacterEncoding());
+        String requestBody = isBinaryContent(request.getContentType())
+                ? binarySummary(request.getContentAsByteArray())
+                : getStringValue(request.getContentAsByteArray(), request.getCharacterEncoding());
         if (requestBody.length() > 1000) {
             requestBody = requestBody.substring(0, 1000) + "...";
         }
@@ -76,15 +214,27 @@ public class RequestResponseLoggingFilter implements Filter {
         }
         
         // Response body 수집
-        String responseBody = getStringValue(response.getContentAsByteArray(), response.getCharacterEncoding());
+        String responseBody = isBinaryContent(response.getContentType())
+                ? binarySummary(response.getContentAsByteArray())
+                : getStringValue(response.getContentAsByteArray(), response.getCharacterEncoding());
         if (responseBody.length() > 1000) {
             responseBody = responseBody.substring(0, 1000) + "...";
         }
         
         LoggingUtils.logOneLineApi(logger, method, uri, requestHeaders, requestBody, 
-                                 response.getStatus(), responseHeaders, responseBody, duration);
+                                 response.getStatus(), responseHeaders, responseBody, duration, toLogFields(sqlStats));
     }
     
+    // CBOR/Smile 본문은 문자열로 바꾸면 깨지므로 크기만 기록
+    private boolean isBinaryContent(String contentType) {
+        return contentType != null
+                && (contentType.startsWith("application/cbor") || contentType.startsWith("application/x-jackson-smile"));
+    }
+
+    private String binarySummary(byte[] content) {
+        return content.length > 0 ? "<binary " + content.length + " bytes>" : "";
+    }
+
     private Map<String, String> getImportantHeaders(HttpServletRequest request) {
         Map<String, String> headers = new HashMap<>();
         Enumeration<String> headerNames = request.getHeaderNames();
@@ -0,0 +1,115 @@
+package com.aido.backend.grpc;
+
+import com.aido.backend.util.LoggingUtils;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// HTTP 포트와 별도인 aido.grpc.port 에서 gRPC 서비스를 띄움 (기본 0 - 비활성)
+// - SecurityConfig를 거치지 않으므로 모든 호출에 공유 토큰(aido.grpc.token)을 요구하고, 토큰이 없으면 시작하지 않음
+// - 기본은 loopback에만 바인딩, 다른 호스트에서 호출해야 하면 내부망 주소와 TLS 인증서를 지정
+// 서비스 구현은 블로킹 조회라 호출마다 가상 스레드에서 실행
+@Component
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final List<BindableService> services;
+
+    @Value("${aido.grpc.port:0}")
+    private int port;
+
+    @Value("${aido.grpc.address:127.0.0.1}")
+    private String address;
+
+    @Value("${aido.grpc.token:}")
+    private String token;
+
+    // 둘 다 지정하면 TLS (PEM 파일 경로)
+    @Value("${aido.grpc.tls.cert-chain:}")
+    private String certChain;
+
+    @Value("${aido.grpc.tls.private-key:}")
+    private String privateKey;
+
+    private Server server;
+    private ExecutorService executor;
+
+    @Autowired
+    public GrpcServer(List<BindableService> services) {
+        this.services = services;
+    }
+
+    @Override
+    public void start() {
+        if (port <= 0) {
+            return;
+        }
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("aido.grpc.token is required when aido.grpc.port is set");
+        }
+        boolean tls = !certChain.isBlank() && !privateKey.isBlank();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        NettyServerBuilder builder = NettyServerBuilder.forAddress(new InetSocketAddress(address, port))
+                .executor(executor)
+                .intercept(new TokenAuthInterceptor(token));
+        if (tls) {
+            builder.useTransportSecurity(new File(certChain), new File(privateKey));
+        }
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            executor.shutdown();
+            throw new UncheckedIOException("Failed to start gRPC server on " + address + ":" + port, e);
+        }
+
+        Map<String, Object> logInfo = new HashMap<>();
+        logInfo.put("address", address);
+        logInfo.put("port", server.getPort());
+        logInfo.put("tls", tls);
+        logInfo.put("services", services.size());
+        LoggingUtils.logInfo(logger, "grpc_server_started", logInfo);
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(10, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
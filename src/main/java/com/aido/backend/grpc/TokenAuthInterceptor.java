@@ -0,0 +1,48 @@
+package com.aido.backend.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 내부 서비스 간 공유 토큰 검사 - "authorization: Bearer <token>" 메타데이터가 없거나 다르면 UNAUTHENTICATED
+public class TokenAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] expected;
+
+    public TokenAuthInterceptor(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("gRPC auth token must not be blank");
+        }
+        this.expected = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        if (!isAuthorized(headers.get(AUTHORIZATION))) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid bearer token"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        // 비교 시간으로 토큰이 드러나지 않도록 고정 시간 비교
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, expected);
+    }
+}
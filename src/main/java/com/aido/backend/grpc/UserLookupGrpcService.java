@@ -0,0 +1,169 @@
+package com.aido.backend.grpc;
+
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchResponse;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.grpc.proto.*;
+import com.aido.backend.service.UserService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+// UserController 조회 API의 gRPC 버전 - 같은 UserService(캐시, 검색 색인)를 사용
+@Component
+public class UserLookupGrpcService extends UserLookupGrpc.UserLookupImplBase {
+
+    private final UserService userService;
+
+    @Value("${aido.user.page.max-limit:100}")
+    private int maxPageLimit;
+
+    @Value("${aido.user.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    // 스트리밍 한 번에 보낼 수 있는 최대 사용자 수 (limit 0이면 이만큼)
+    @Value("${aido.grpc.stream.max-limit:10000}")
+    private int maxStreamLimit;
+
+    @Autowired
+    public UserLookupGrpcService(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public void getUserById(GetUserByIdRequest request, StreamObserver<User> responseObserver) {
+        respond(userService.getUserById(request.getId()), "User not found with id: " + request.getId(), responseObserver);
+    }
+
+    @Override
+    public void getUserByEmail(GetUserByEmailRequest request, StreamObserver<User> responseObserver) {
+        respond(userService.getUserByEmail(request.getEmail()), "User not found with email: " + request.getEmail(),
+                responseObserver);
+    }
+
+    @Override
+    public void getUsersBatch(GetUsersBatchRequest request, StreamObserver<GetUsersBatchResponse> responseObserver) {
+        if (request.getIdsCount() + request.getEmailsCount() > maxBatchSize) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Too many identifiers requested, max " + maxBatchSize).asRuntimeException());
+            return;
+        }
+        UserBatchResponse batch = userService.getUsersBatch(request.getIdsList(), request.getEmailsList());
+
+        GetUsersBatchResponse.Builder response = GetUsersBatchResponse.newBuilder()
+                .addAllMissingIds(batch.getMissingIds())
+                .addAllMissingEmails(batch.getMissingEmails());
+        // 같은 사용자를 id와 email로 함께 요청한 경우 한 번만 담음
+        Map<Long, UserDto> found = new LinkedHashMap<>();
+        batch.getById().values().stream().filter(Objects::nonNull).forEach(user -> found.put(user.getId(), user));
+        batch.getByEmail().values().stream().filter(Objects::nonNull).forEach(user -> found.putIfAbsent(user.getId(), user));
+        found.values().forEach(user -> response.addUsers(toProto(user)));
+
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listUsers(ListUsersRequest request, StreamObserver<User> responseObserver) {
+        stream(request.getLimit(), userService::getUsers, responseObserver);
+    }
+
+    @Override
+    public void searchUsers(SearchUsersRequest request, StreamObserver<User> responseObserver) {
+        if (request.getKeyword().isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("keyword is required").asRuntimeException());
+            return;
+        }
+        stream(request.getLimit(), (cursor, pageSize) -> userService.searchUsers(request.getKeyword(), cursor, pageSize),
+                responseObserver);
+    }
+
+    // 커서 페이지 단위로 읽어서 흘려보냄 (limit 0 = 최대치까지), 클라이언트가 취소하면 중단
+    private void stream(int limit, BiFunction<String, Integer, CursorPage<UserDto>> pages,
+                        StreamObserver<User> responseObserver) {
+        if (limit < 0 || limit > maxStreamLimit) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("limit must be between 0 and " + maxStreamLimit).asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<User> call = (ServerCallStreamObserver<User>) responseObserver;
+        PageStream stream = new PageStream(call, pages, limit == 0 ? maxStreamLimit : limit);
+        // onReady 콜백은 이 메서드와 같은 직렬 executor에서 실행되므로 동시에 돌지 않음
+        call.setOnReadyHandler(stream);
+        stream.run();
+    }
+
+    // 전송 버퍼에 여유가 있는 동안만 보냄 - 느린 클라이언트 때문에 Netty가 전체 결과를 메모리에 쌓지 않도록
+    // 버퍼가 차면 멈췄다가 onReady 콜백에서 이어서 보내고, 다음 페이지는 보낼 차례가 되어야 읽음
+    private final class PageStream implements Runnable {
+        private final ServerCallStreamObserver<User> call;
+        private final BiFunction<String, Integer, CursorPage<UserDto>> pages;
+        private int remaining;
+        private String cursor;
+        private boolean lastPage;
+        private Iterator<UserDto> buffered = Collections.emptyIterator();
+        private boolean done;
+
+        private PageStream(ServerCallStreamObserver<User> call, BiFunction<String, Integer, CursorPage<UserDto>> pages,
+                           int limit) {
+            this.call = call;
+            this.pages = pages;
+            this.remaining = limit;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!done && call.isReady()) {
+                    if (call.isCancelled()) {
+                        done = true;
+                        return;
+                    }
+                    if (buffered.hasNext()) {
+                        call.onNext(toProto(buffered.next()));
+                        remaining--;
+                    } else if (lastPage || remaining == 0) {
+                        done = true;
+                        call.onCompleted();
+                    } else {
+                        CursorPage<UserDto> page = pages.apply(cursor, Math.min(remaining, maxPageLimit));
+                        buffered = page.getItems().iterator();
+                        cursor = page.getNext();
+                        lastPage = cursor == null;
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                done = true;
+                call.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            }
+        }
+    }
+
+    private static void respond(Optional<UserDto> user, String notFoundMessage, StreamObserver<User> responseObserver) {
+        if (user.isEmpty()) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription(notFoundMessage).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(toProto(user.get()));
+        responseObserver.onCompleted();
+    }
+
+    static User toProto(UserDto user) {
+        return User.newBuilder()
+                .setId(user.getId())
+                .setName(user.getName())
+                .setEmail(user.getEmail())
+                .build();
+    }
+}
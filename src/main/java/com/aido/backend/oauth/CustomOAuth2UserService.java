@@ -1,12 +1,15 @@
 package com.aido.backend.oauth;
 
+import com.aido.backend.dto.UserDto;
 import com.aido.backend.entity.User;
 import com.aido.backend.enums.AuthProvider;
+import com.aido.backend.event.UserChangedEvent;
 import com.aido.backend.repository.UserRepository;
 import com.aido.backend.util.LoggingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -28,6 +31,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(oAuth2UserRequest);
@@ -71,6 +77,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             LoggingUtils.logInfo(logger, "oauth2_user_updated", updateLog);
         } else {
             // 이메일로 기존 사용자 확인
+            // 가입/연결 판단이므로 email 필터(다른 노드의 변경이 늦게 반영될 수 있음)를 거치지 않고 항상 DB에서 확인
             Optional<User> emailUserOptional = userRepository.findByEmail(oAuth2UserInfo.getEmail());
             if (emailUserOptional.isPresent()) {
                 User existingUser = emailUserOptional.get();
@@ -112,10 +119,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         registerLog.put("name", user.getName());
         LoggingUtils.logInfo(logger, "oauth2_new_user_creation", registerLog);
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(toDto(savedUser)));
+        return savedUser;
     }
 
     private User updateExistingUser(User existingUser, OAuth2UserInfo oAuth2UserInfo) {
+        UserDto previous = toDto(existingUser);
         existingUser.setName(oAuth2UserInfo.getName());
         existingUser.setProfileImageUrl(oAuth2UserInfo.getImageUrl());
         
@@ -125,6 +135,12 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         updateLog.put("name_updated", !existingUser.getName().equals(oAuth2UserInfo.getName()));
         LoggingUtils.logInfo(logger, "oauth2_user_update", updateLog);
         
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(previous, toDto(savedUser)));
+        return savedUser;
+    }
+
+    private UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getName(), user.getEmail(), user.getUpdatedAt());
     }
 }
\ No newline at end of file
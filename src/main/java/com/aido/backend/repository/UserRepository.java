@@ -1,30 +1,85 @@
 package com.aido.backend.repository;
 
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserVersion;
 import com.aido.backend.entity.User;
 import com.aido.backend.enums.AuthProvider;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// 조회 메서드는 읽기 전용 트랜잭션 - Hibernate flush mode MANUAL, 엔티티 스냅샷 생략
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    
-    Optional<User> findByEmail(String email);
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     
     List<User> findByNameContainingIgnoreCase(String name);
     
     @Query("SELECT u FROM User u WHERE u.name LIKE %:keyword% OR u.email LIKE %:keyword%")
     List<User> findByKeyword(@Param("keyword") String keyword);
     
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email) FROM User u " +
+           "WHERE (u.name LIKE %:keyword% OR u.email LIKE %:keyword%) AND u.id > :afterId ORDER BY u.id")
+    List<UserDto> findByKeywordAfter(@Param("keyword") String keyword, @Param("afterId") long afterId, Limit limit);
+    
+    // keyset 페이지네이션 - PK 범위 스캔으로 OFFSET 없이 조회
+    // updatedAt은 응답에 나가지 않고 페이지 ETag 계산용
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserDto> findPageAfter(@Param("afterId") long afterId, Limit limit);
+    
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email) FROM User u ORDER BY u.id")
+    List<UserDto> findAllDtos();
+    
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u WHERE u.id = :id")
+    Optional<UserDto> findDtoById(@Param("id") Long id);
+    
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u WHERE u.email = :email")
+    Optional<UserDto> findDtoByEmail(@Param("email") String email);
+    
+    // 배치 조회 - IN 목록 크기는 호출 측에서 나눠서 전달
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u WHERE u.id IN :ids")
+    List<UserDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u WHERE u.email IN :emails")
+    List<UserDto> findDtosByEmailIn(@Param("emails") Collection<String> emails);
+    
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    // 조건부 GET - 엔티티를 로드하지 않고 버전 정보만 조회 (캐시된 UserDto에 updatedAt이 없을 때)
+    @Query("SELECT new com.aido.backend.dto.UserVersion(u.id, u.updatedAt) FROM User u WHERE u.id = :id")
+    Optional<UserVersion> findVersionById(@Param("id") Long id);
+    
+    // 워터마크 (updatedAt, id) 이후에 생성/수정된 행 - idx_users_updated_at_id 범위 스캔
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email, u.updatedAt) FROM User u " +
+           "WHERE u.updatedAt > :since OR (u.updatedAt = :since AND u.id > :afterId) ORDER BY u.updatedAt, u.id")
+    List<UserDto> findChangedAfter(@Param("since") LocalDateTime since, @Param("afterId") long afterId, Limit limit);
+    
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new com.aido.backend.dto.UserDto(u.id, u.name, u.email) FROM User u ORDER BY u.id")
+    Stream<UserDto> streamAll();
+    
     boolean existsByEmail(String email);
     
+    // Hibernate는 엔티티당 natural id를 하나만 허용하므로 (provider, providerId)는 쿼리 캐시로 처리
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByProviderAndProviderId(AuthProvider provider, String providerId);
     
     List<User> findByProvider(AuthProvider provider);
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByProviderAndProviderId(AuthProvider provider, String providerId);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.aido.backend.repository;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByEmail(String email);
+
+    void insertAll(List<User> users);
+
+    // 변경 전 상태를 반환 (없는 id면 empty)
+    Optional<UserDto> updateProfile(Long id, String name, String email, LocalDateTime updatedAt);
+
+    // 삭제된 행의 상태를 반환 (없는 id면 empty)
+    Optional<UserDto> deleteUserById(Long id);
+
+    List<UserDto> searchFulltext(String query, int limit, long offset);
+
+    List<UserDto> findProjectedPageAfter(long afterId, int limit, UserFieldSet fields);
+
+    List<UserDto> findAllProjected(UserFieldSet fields);
+
+    Stream<UserDto> streamProjected(UserFieldSet fields);
+}
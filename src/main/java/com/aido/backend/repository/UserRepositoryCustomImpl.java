@@ -0,0 +1,211 @@
+package com.aido.backend.repository;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (name, email, provider, provider_id, profile_image_url, created_at, updated_at, enabled) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // ft_users_name_email (FULLTEXT, WITH PARSER ngram) 필요 - 필요한 세 컬럼만 읽어 DTO로 반환
+    private static final String FULLTEXT_SQL =
+            "SELECT id, name, email FROM users WHERE MATCH(name, email) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(name, email) AGAINST (:query IN BOOLEAN MODE) DESC, id " +
+            "LIMIT :limit OFFSET :offset";
+
+    // 변경 전 상태는 primary에서 행 잠금과 함께 읽음 (이벤트의 previous, natural id 캐시 무효화에 사용)
+    // MySQL에는 UPDATE/DELETE ... RETURNING이 없어 한 문장으로는 이전 email을 알 수 없음
+    // 캐시된 값은 없거나 오래됐을 수 있어 이전 email의 natural id/UserCache 항목이 남으면 그 email이 이 id로 계속 해석됨
+    // 같은 트랜잭션의 PK 조회라 뒤따르는 UPDATE/DELETE가 어차피 잡을 행 잠금을 먼저 잡을 뿐 추가 잠금 범위는 없음
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT id, name, email FROM users WHERE id = ? FOR UPDATE";
+    private static final String UPDATE_PROFILE_SQL = "UPDATE users SET name = ?, email = ?, updated_at = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM users WHERE id = ?";
+
+    // rewriteBatchedStatements=true 이면 드라이버가 배치를 multi-row INSERT로 재작성
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // email은 natural id - 2차 캐시에서 id를 해석하고 엔티티까지 SQL 없이 로드
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> searchFulltext(String query, int limit, long offset) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(FULLTEXT_SQL, Tuple.class)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new UserDto(((Number) row.get("id")).longValue(), (String) row.get("name"), (String) row.get("email")))
+                .toList();
+    }
+
+    // fields= 로 고른 컬럼만 SELECT (id는 커서/정렬에 필요해서 항상 포함)
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findProjectedPageAfter(long afterId, int limit, UserFieldSet fields) {
+        return projectedQuery(fields, true, "WHERE u.id > :afterId ")
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(row -> toDto(row, fields, true))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findAllProjected(UserFieldSet fields) {
+        return projectedQuery(fields, false, "")
+                .getResultStream()
+                .map(row -> toDto(row, fields, false))
+                .toList();
+    }
+
+    // streamAll과 같이 MySQL에서 한 행씩 스트리밍 (호출하는 쪽 트랜잭션 안에서 소비하고 닫아야 함)
+    @Override
+    public Stream<UserDto> streamProjected(UserFieldSet fields) {
+        return projectedQuery(fields, false, "")
+                .setHint(AvailableHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .getResultStream()
+                .map(row -> toDto(row, fields, false));
+    }
+
+    // withVersion이면 페이지 ETag 계산용 updatedAt도 조회 (응답에는 나가지 않음)
+    private TypedQuery<Tuple> projectedQuery(UserFieldSet fields, boolean withVersion, String where) {
+        StringBuilder jpql = new StringBuilder("SELECT u.id AS id");
+        if (withVersion) {
+            jpql.append(", u.updatedAt AS updatedAt");
+        }
+        if (fields.includes(UserFieldSet.Field.NAME)) {
+            jpql.append(", u.name AS name");
+        }
+        if (fields.includes(UserFieldSet.Field.EMAIL)) {
+            jpql.append(", u.email AS email");
+        }
+        jpql.append(" FROM User u ").append(where).append("ORDER BY u.id");
+        return entityManager.createQuery(jpql.toString(), Tuple.class);
+    }
+
+    private static UserDto toDto(Tuple row, UserFieldSet fields, boolean withVersion) {
+        return new UserDto(
+                row.get("id", Long.class),
+                fields.includes(UserFieldSet.Field.NAME) ? row.get("name", String.class) : null,
+                fields.includes(UserFieldSet.Field.EMAIL) ? row.get("email", String.class) : null,
+                withVersion ? row.get("updatedAt", LocalDateTime.class) : null)
+                .withFields(fields);
+    }
+
+    // JPQL 벌크 UPDATE/DELETE는 User 엔티티/natural id 리전과 쿼리 캐시 전체를 비우므로
+    // JDBC로 실행하고 해당 id와 이전/새 email 항목만 커밋 후 무효화
+    @Override
+    @Transactional
+    public Optional<UserDto> updateProfile(Long id, String name, String email, LocalDateTime updatedAt) {
+        Optional<UserDto> previous = lockProfile(id);
+        if (previous.isEmpty()) {
+            return previous;
+        }
+        jdbcTemplate.update(UPDATE_PROFILE_SQL, name, email, Timestamp.valueOf(updatedAt), id);
+        // (provider, providerId) 쿼리 캐시는 id만 보관하고 두 컬럼은 바뀌지 않으므로 그대로 둠
+        evictAfterCommit(id, previous.get().getEmail(), email, false);
+        return previous;
+    }
+
+    @Override
+    @Transactional
+    public Optional<UserDto> deleteUserById(Long id) {
+        Optional<UserDto> previous = lockProfile(id);
+        if (previous.isEmpty()) {
+            return previous;
+        }
+        jdbcTemplate.update(DELETE_SQL, id);
+        evictAfterCommit(id, previous.get().getEmail(), null, true);
+        return previous;
+    }
+
+    private Optional<UserDto> lockProfile(Long id) {
+        return jdbcTemplate.query(SELECT_FOR_UPDATE_SQL,
+                (rs, rowNum) -> new UserDto(rs.getLong("id"), rs.getString("name"), rs.getString("email")),
+                id).stream().findFirst();
+    }
+
+    private void evictAfterCommit(Long id, String previousEmail, String currentEmail, boolean evictQueries) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(User.class);
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        List<Object> naturalIdKeys = new ArrayList<>(2);
+        for (String email : new String[]{previousEmail, currentEmail}) {
+            if (email != null && naturalIds != null) {
+                naturalIdKeys.add(naturalIds.generateCacheKey(email, persister, session));
+            }
+        }
+        org.hibernate.Cache cache = session.getFactory().getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백이어도 비워 둠 - 다음 조회에서 DB 값으로 다시 채워짐
+                cache.evictEntityData(User.class, id);
+                naturalIdKeys.forEach(naturalIds::evict);
+                if (evictQueries) {
+                    cache.evictDefaultQueryRegion();
+                }
+            }
+        });
+    }
+
+    // IDENTITY 생성 전략에서는 Hibernate가 INSERT를 배치하지 못하므로 JDBC로 직접 처리
+    @Override
+    @Transactional
+    public void insertAll(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, JDBC_BATCH_SIZE, (ps, user) -> {
+            ps.setString(1, user.getName());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getProvider().name());
+            ps.setString(4, user.getProviderId());
+            ps.setString(5, user.getProfileImageUrl());
+            ps.setTimestamp(6, Timestamp.valueOf(user.getCreatedAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(user.getUpdatedAt()));
+            ps.setBoolean(8, user.isEnabled());
+        });
+        // Hibernate를 거치지 않은 변경이므로 users 테이블 기반 쿼리 캐시 무효화
+        entityManager.getEntityManagerFactory().getCache()
+                .unwrap(org.hibernate.Cache.class)
+                .evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,113 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// users 테이블 전체를 메모리에 올린 읽기 전용 구조의 공통 부분
+// - 시작 시 스냅샷으로 재구축하고 이후에는 UserChangedEvent로 증분 갱신
+// - 재구축 중에 들어온 변경은 새 상태에 다시 적용 (upsert/remove는 멱등)
+public abstract class InMemoryUserView<S> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private S state = newState();
+    private volatile boolean ready;
+    private List<UserChangedEvent> pendingEvents;
+
+    protected abstract S newState();
+
+    protected abstract void upsert(S state, UserDto user);
+
+    protected abstract void remove(S state, Long id);
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 스냅샷을 읽기 시작하기 전에 호출해야 그 사이의 변경을 놓치지 않음
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeRebuild(Iterator<UserDto> users) {
+        S rebuilt = newState();
+        try {
+            while (users.hasNext()) {
+                upsert(rebuilt, users.next());
+            }
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                for (UserChangedEvent event : pendingEvents) {
+                    apply(rebuilt, event);
+                }
+            }
+            pendingEvents = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Iterator<UserDto> users) {
+        beginRebuild();
+        completeRebuild(users);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(state, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    protected <T> T read(Function<S, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(S target, UserChangedEvent event) {
+        if (event.getCurrent() != null) {
+            upsert(target, event.getCurrent());
+        } else {
+            remove(target, event.getUserId());
+        }
+    }
+}
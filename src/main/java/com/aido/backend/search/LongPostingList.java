@@ -0,0 +1,71 @@
+package com.aido.backend.search;
+
+import java.util.Arrays;
+
+// 정렬된 long 배열 기반 posting list - 박싱 없이 사용자 id를 오름차순으로 보관
+// (id 순서라 커서 이후부터 바로 이어서 읽을 수 있음)
+class LongPostingList {
+
+    private long[] values = new long[4];
+    private int size;
+
+    void add(long value) {
+        if (size == 0 || values[size - 1] < value) {
+            ensureCapacity();
+            values[size++] = value;
+            return;
+        }
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+
+    void remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    // from 위치부터 value 이상인 첫 원소의 위치 (galloping 후 이진 탐색) - 없으면 size
+    int advance(int from, long value) {
+        int bound = 1;
+        int low = from;
+        while (from + bound < size && values[from + bound] < value) {
+            low = from + bound;
+            bound <<= 1;
+        }
+        int high = Math.min(from + bound, size - 1);
+        if (low > high || values[high] < value) {
+            return size;
+        }
+        int index = Arrays.binarySearch(values, low, high + 1, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return values[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// name/email에 대한 trigram 역색인 - findByKeyword(LIKE %keyword%)와 같은 결과를 DB 없이 반환
+@Component
+public class UserSearchIndex extends InMemoryUserView<UserSearchIndex.Segment> {
+
+    private static final int MAX_INTERSECTED_LISTS = 4;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    public int size() {
+        return read(segment -> segment.docs.size());
+    }
+
+    // trigram posting list 수 - 삭제/수정된 사용자의 trigram은 남지 않음
+    int postingListCount() {
+        return read(segment -> segment.postings.size());
+    }
+
+    public List<UserDto> search(String keyword) {
+        return search(keyword, 0L, Integer.MAX_VALUE);
+    }
+
+    // afterId 이후의 일치 항목을 id 순으로 최대 limit개 - 전체 일치 목록을 모으거나 정렬하지 않음
+    public List<UserDto> search(String keyword, long afterId, int limit) {
+        String needle = normalize(keyword);
+        return read(segment -> segment.search(needle, afterId, limit));
+    }
+
+    @Override
+    protected Segment newState() {
+        return new Segment();
+    }
+
+    @Override
+    protected void upsert(Segment segment, UserDto user) {
+        segment.upsert(user);
+    }
+
+    @Override
+    protected void remove(Segment segment, Long id) {
+        segment.remove(id);
+    }
+
+    // utf8mb4_0900_ai_ci처럼 대소문자/악센트 구분 없이 비교 (José == jose)
+    // NFD로 분해해서 결합 문자를 지운 뒤 NFC로 다시 조합 - 한글 음절이 자모로 남으면 "김미"가 "김민"에 걸리므로
+    // 콜레이션의 확장 규칙(ß == ss, æ == ae 등)까지는 따르지 않음
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (isAscii(lower)) {
+            return lower;
+        }
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 문자 3개를 16비트씩 long 하나로 묶음
+    static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32)
+                | ((long) text.charAt(start + 1) << 16)
+                | text.charAt(start + 2);
+    }
+
+    private static final class Doc {
+        private final UserDto user;
+        private final String name;
+        private final String email;
+
+        private Doc(UserDto user) {
+            this.user = user;
+            this.name = normalize(user.getName());
+            this.email = normalize(user.getEmail());
+        }
+
+        private boolean matches(String needle) {
+            return name.contains(needle) || email.contains(needle);
+        }
+    }
+
+    static final class Segment {
+        private final Map<Long, Doc> docs = new HashMap<>();
+        // 모든 사용자 id - trigram을 만들 수 없는 짧은 검색어를 id 순으로 훑는 데 사용
+        private final LongPostingList ids = new LongPostingList();
+        private final Map<Long, LongPostingList> postings = new HashMap<>();
+
+        private void upsert(UserDto user) {
+            long id = user.getId();
+            Doc previous = docs.get(id);
+            if (previous != null) {
+                unindex(id, previous);
+            } else {
+                ids.add(id);
+            }
+            Doc doc = new Doc(user);
+            docs.put(id, doc);
+            index(id, doc);
+        }
+
+        private void remove(Long id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            unindex(id, doc);
+            ids.remove(id);
+        }
+
+        private void index(long id, Doc doc) {
+            forEachTrigram(doc, key -> postings.computeIfAbsent(key, k -> new LongPostingList()).add(id));
+        }
+
+        private void unindex(long id, Doc doc) {
+            forEachTrigram(doc, key -> {
+                LongPostingList list = postings.get(key);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(key);
+                    }
+                }
+            });
+        }
+
+        private void forEachTrigram(Doc doc, TrigramConsumer consumer) {
+            for (String field : new String[] {doc.name, doc.email}) {
+                for (int i = 0; i + 3 <= field.length(); i++) {
+                    consumer.accept(trigram(field, i));
+                }
+            }
+        }
+
+        // posting list가 모두 id 순이므로 afterId 다음 위치부터 교집합을 구하고 limit개를 채우면 멈춤
+        private List<UserDto> search(String needle, long afterId, int limit) {
+            LongPostingList[] lists;
+            if (needle.length() < 3) {
+                // trigram을 만들 수 없는 짧은 검색어는 전체 id를 순서대로 훑으며 부분 문자열 확인
+                lists = new LongPostingList[] {ids};
+            } else {
+                lists = new LongPostingList[needle.length() - 2];
+                for (int i = 0; i < lists.length; i++) {
+                    LongPostingList list = postings.get(trigram(needle, i));
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists[i] = list;
+                }
+                Arrays.sort(lists, Comparator.comparingInt(LongPostingList::size));
+            }
+            // 교집합은 가장 짧은 posting list 몇 개로만 구함 - 나머지는 부분 문자열 확인에서 걸러짐
+            int used = Math.min(lists.length, MAX_INTERSECTED_LISTS);
+            int[] cursors = new int[used];
+            for (int j = 0; j < used; j++) {
+                cursors[j] = lists[j].advance(0, afterId + 1);
+            }
+
+            List<UserDto> result = new ArrayList<>(Math.min(limit, 64));
+            LongPostingList shortest = lists[0];
+            candidates:
+            for (int i = cursors[0]; i < shortest.size() && result.size() < limit; i++) {
+                long id = shortest.get(i);
+                for (int j = 1; j < used; j++) {
+                    cursors[j] = lists[j].advance(cursors[j], id);
+                    if (cursors[j] == lists[j].size()) {
+                        break candidates;
+                    }
+                    if (lists[j].get(cursors[j]) != id) {
+                        continue candidates;
+                    }
+                }
+                // trigram이 다른 필드에 흩어져 있을 수 있으므로 실제 부분 문자열 여부 확인
+                Doc doc = docs.get(id);
+                if (doc.matches(needle)) {
+                    result.add(doc.user);
+                }
+            }
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TrigramConsumer {
+        void accept(long trigram);
+    }
+}
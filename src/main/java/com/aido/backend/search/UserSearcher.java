@@ -0,0 +1,77 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.enums.UserSearchMode;
+import com.aido.backend.repository.UserRepository;
+import com.aido.backend.util.CursorCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// aido.user.search.mode 에 따라 검색 경로 선택 - 모든 모드에서 결과는 limit 단위 페이지
+@Component
+public class UserSearcher {
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex searchIndex;
+    private final UserSearchMode searchMode;
+
+    @Autowired
+    public UserSearcher(UserRepository userRepository, UserSearchIndex searchIndex,
+                        @Value("${aido.user.search.mode:index}") UserSearchMode searchMode) {
+        this.userRepository = userRepository;
+        this.searchIndex = searchIndex;
+        this.searchMode = searchMode;
+    }
+
+    public CursorPage<UserDto> search(String keyword, String cursor, int limit) {
+        if (searchMode == UserSearchMode.FULLTEXT) {
+            return searchFulltext(keyword, cursor, limit);
+        }
+        long afterId = cursor != null ? CursorCodec.decodeId(cursor) : 0L;
+        if (searchMode == UserSearchMode.INDEX && searchIndex.isReady()) {
+            return searchIndexed(keyword, afterId, limit);
+        }
+        // 하나 더 조회해서 다음 페이지 여부 판단
+        return keysetPage(userRepository.findByKeywordAfter(keyword, afterId, Limit.of(limit + 1)), limit);
+    }
+
+    // 색인이 커서 이후부터 id 순으로 limit + 1개만 찾음 (하나 더는 다음 페이지 여부 판단용)
+    private CursorPage<UserDto> searchIndexed(String keyword, long afterId, int limit) {
+        return keysetPage(searchIndex.search(keyword, afterId, limit + 1), limit);
+    }
+
+    private CursorPage<UserDto> searchFulltext(String keyword, String cursor, int limit) {
+        long offset = cursor != null ? CursorCodec.decodeOffset(cursor) : 0L;
+        String query = toBooleanPhrase(keyword);
+        if (query == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<UserDto> rows = userRepository.searchFulltext(query, limit + 1, offset);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        return new CursorPage<>(rows.subList(0, limit), CursorCodec.encodeOffset(offset + limit));
+    }
+
+    private CursorPage<UserDto> keysetPage(List<UserDto> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<UserDto> items = rows.subList(0, limit);
+        return new CursorPage<>(items, CursorCodec.encodeId(items.get(limit - 1).getId()));
+    }
+
+    // BOOLEAN MODE 연산자를 제거하고 구문 검색("...")으로 감쌈 - ngram 토큰이 연속으로 나와야 일치
+    static String toBooleanPhrase(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String cleaned = keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+        return cleaned.isEmpty() ? null : "\"" + cleaned + "\"";
+    }
+}
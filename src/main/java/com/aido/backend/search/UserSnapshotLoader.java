@@ -0,0 +1,185 @@
+package com.aido.backend.search;
+
+import com.aido.backend.cache.UserEmailFilter;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.enums.UserSearchMode;
+import com.aido.backend.event.UserChangedEvent;
+import com.aido.backend.repository.UserRepository;
+import com.aido.backend.util.LoggingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// users 테이블을 한 번만 스트리밍해서 메모리 구조(검색 색인, 자동완성 trie, email 필터)를 함께 구축
+// - UserChangedEvent는 이 노드의 변경만 전달하므로 다른 노드/import/직접 SQL로 생성/수정된 사용자는
+//   주기적으로 updated_at 워터마크 이후를 primary에서 읽어 반영
+// - 워터마크보다 overlap만큼 앞에서부터 다시 읽음 - 늦게 커밋된 트랜잭션(동시 bulk chunk 등)과 노드 간 시계 차이 보정
+//   (upsert는 멱등이라 다시 읽은 행은 영향 없음, overlap보다 오래 걸린 트랜잭션은 전체 재구축에서 반영)
+// - 다른 노드의 삭제는 전체 재구축 주기에 반영 - email 필터에는 "있을 수 있음"으로 남을 뿐이라 "없음" 오답은 생기지 않음
+// - JDBC를 잡고 있는 동안 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock
+@Component
+public class UserSnapshotLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSnapshotLoader.class);
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex searchIndex;
+    private final UserSuggestTrie suggestTrie;
+    private final UserEmailFilter emailFilter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+
+    @Value("${aido.user.search.mode:index}")
+    private UserSearchMode searchMode;
+
+    @Value("${aido.user.snapshot.catch-up-batch-size:1000}")
+    private int catchUpBatchSize;
+
+    @Value("${aido.user.snapshot.catch-up-overlap:60s}")
+    private Duration catchUpOverlap;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 반영된 가장 늦은 updated_at (null이면 아직 적재 전)
+    private LocalDateTime watermark;
+
+    @Autowired
+    public UserSnapshotLoader(UserRepository userRepository, UserSearchIndex searchIndex,
+                              UserSuggestTrie suggestTrie, UserEmailFilter emailFilter,
+                              PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.searchIndex = searchIndex;
+        this.suggestTrie = suggestTrie;
+        this.emailFilter = emailFilter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 따라잡기는 replica 지연 없이 primary에서
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // 준비되기 전까지 검색은 DB(LIKE)로 처리되고 자동완성은 빈 결과를 반환, email 조회는 모두 DB로
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            loadSnapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loadSnapshot() {
+        List<InMemoryUserView<?>> views = views();
+
+        long startTime = System.currentTimeMillis();
+        // 스냅샷을 읽는 동안 수정된 행은 다음 따라잡기에서 반영
+        LocalDateTime snapshotStart = LocalDateTime.now();
+        views.forEach(InMemoryUserView::beginRebuild);
+        List<UserDto> users;
+        try {
+            users = readOnlyTransaction.execute(status -> {
+                try (Stream<UserDto> stream = userRepository.streamAll()) {
+                    return stream.collect(Collectors.toList());
+                }
+            });
+        } catch (RuntimeException e) {
+            views.forEach(InMemoryUserView::abortRebuild);
+            throw e;
+        }
+        // 같은 UserDto 인스턴스를 공유하므로 구조가 늘어도 사용자 데이터는 한 벌만 유지
+        for (InMemoryUserView<?> view : views) {
+            view.completeRebuild(users.iterator());
+        }
+        watermark = snapshotStart;
+
+        Map<String, Object> logInfo = new HashMap<>();
+        logInfo.put("users", users.size());
+        logInfo.put("search_index", views.contains(searchIndex));
+        logInfo.put("duration_ms", System.currentTimeMillis() - startTime);
+        LoggingUtils.logInfo(logger, "user_snapshot_loaded", logInfo);
+    }
+
+    @Scheduled(fixedDelayString = "${aido.user.snapshot.catch-up-interval-ms:5000}",
+            initialDelayString = "${aido.user.snapshot.catch-up-interval-ms:5000}")
+    public void catchUp() {
+        // 재구축 중이면 건너뜀 - 재구축이 끝나면 그 시작 시점부터 다시 따라잡음
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (watermark != null) {
+                catchUpChanges();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void catchUpChanges() {
+        List<InMemoryUserView<?>> views = views();
+        LocalDateTime since = watermark.minus(catchUpOverlap);
+        long afterId = 0L;
+        LocalDateTime latest = watermark;
+        int applied = 0;
+        List<UserDto> users;
+        do {
+            LocalDateTime batchSince = since;
+            long batchAfterId = afterId;
+            users = primaryTransaction.execute(status ->
+                    userRepository.findChangedAfter(batchSince, batchAfterId, Limit.of(catchUpBatchSize)));
+            // 이 노드에서 바꾼 사용자도 다시 적용되지만 upsert는 멱등, email 필터의 negative cache도 함께 무효화
+            for (UserDto user : users) {
+                UserChangedEvent event = UserChangedEvent.updated(null, user);
+                views.forEach(view -> view.onUserChanged(event));
+                since = user.getUpdatedAt();
+                afterId = user.getId();
+                if (since.isAfter(latest)) {
+                    latest = since;
+                }
+            }
+            applied += users.size();
+        } while (users.size() == catchUpBatchSize);
+        watermark = latest;
+
+        if (applied > 0) {
+            Map<String, Object> logInfo = new HashMap<>();
+            logInfo.put("users", applied);
+            logInfo.put("watermark", watermark.toString());
+            LoggingUtils.logInfo(logger, "user_snapshot_caught_up", logInfo);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aido.user.snapshot.rebuild-interval-ms:3600000}",
+            initialDelayString = "${aido.user.snapshot.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        load();
+    }
+
+    private List<InMemoryUserView<?>> views() {
+        List<InMemoryUserView<?>> views = new ArrayList<>();
+        if (searchMode == UserSearchMode.INDEX) {
+            views.add(searchIndex);
+        }
+        views.add(suggestTrie);
+        views.add(emailFilter);
+        return views;
+    }
+}
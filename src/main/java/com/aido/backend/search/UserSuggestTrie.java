@@ -0,0 +1,274 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 자동완성용 radix trie - 공통 접두사를 간선 하나로 압축하고 단말 노드에는 사용자 id만 보관
+// 색인 대상: 이름 전체, 이름의 각 단어, 이메일 (소문자)
+@Component
+public class UserSuggestTrie extends InMemoryUserView<UserSuggestTrie.Trie> {
+
+    public List<UserDto> suggest(String prefix, int limit) {
+        String normalized = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        return read(trie -> trie.suggest(normalized, limit));
+    }
+
+    public int size() {
+        return read(trie -> trie.users.size());
+    }
+
+    @Override
+    protected Trie newState() {
+        return new Trie();
+    }
+
+    @Override
+    protected void upsert(Trie trie, UserDto user) {
+        trie.remove(user.getId());
+        trie.add(user);
+    }
+
+    @Override
+    protected void remove(Trie trie, Long id) {
+        trie.remove(id);
+    }
+
+    static String[] termsOf(UserDto user) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (user.getName() != null) {
+            String name = user.getName().trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                terms.add(name);
+                for (String word : name.split("\\s+")) {
+                    terms.add(word);
+                }
+            }
+        }
+        if (user.getEmail() != null) {
+            terms.add(user.getEmail().toLowerCase(Locale.ROOT));
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    static final class Trie {
+        private final Node root = new Node(new char[0]);
+        private final Map<Long, UserDto> users = new HashMap<>();
+        private final Map<Long, String[]> termsById = new HashMap<>();
+
+        private void add(UserDto user) {
+            String[] terms = termsOf(user);
+            users.put(user.getId(), user);
+            termsById.put(user.getId(), terms);
+            for (String term : terms) {
+                root.insert(term, 0, user.getId());
+            }
+        }
+
+        private void remove(Long id) {
+            String[] terms = termsById.remove(id);
+            users.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                root.delete(term, 0, id);
+            }
+        }
+
+        private List<UserDto> suggest(String prefix, int limit) {
+            Node node = root;
+            int offset = 0;
+            while (offset < prefix.length()) {
+                Node child = node.child(prefix.charAt(offset));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = child.commonPrefix(prefix, offset);
+                if (offset + common == prefix.length()) {
+                    // 접두사가 간선 중간에서 끝남 - 이 하위 트리 전체가 후보
+                    node = child;
+                    break;
+                }
+                if (common < child.label.length) {
+                    return List.of();
+                }
+                offset += common;
+                node = child;
+            }
+
+            Set<Long> ids = new LinkedHashSet<>();
+            node.collect(ids, limit);
+            List<UserDto> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                result.add(users.get(id));
+            }
+            return result;
+        }
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+
+        private char[] label;
+        // label[0] 기준 정렬
+        private Node[] children = NO_CHILDREN;
+        // 이 노드에서 끝나는 term을 가진 사용자 id (정렬)
+        private long[] ids = NO_IDS;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        private int commonPrefix(String term, int offset) {
+            int max = Math.min(label.length, term.length() - offset);
+            int i = 0;
+            while (i < max && label[i] == term.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label[0];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private Node child(char c) {
+            int index = childIndex(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void insert(String term, int offset, long id) {
+            if (offset == term.length()) {
+                addId(id);
+                return;
+            }
+            int index = childIndex(term.charAt(offset));
+            if (index < 0) {
+                Node leaf = new Node(term.substring(offset).toCharArray());
+                leaf.addId(id);
+                insertChild(-index - 1, leaf);
+                return;
+            }
+            Node child = children[index];
+            int common = child.commonPrefix(term, offset);
+            if (common < child.label.length) {
+                // 간선 분할: child 앞부분을 새 중간 노드로
+                Node middle = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                middle.children = new Node[] {child};
+                children[index] = middle;
+                child = middle;
+            }
+            child.insert(term, offset + common, id);
+        }
+
+        // 반환값: 이 노드를 부모에서 제거해도 되는지
+        private boolean delete(String term, int offset, long id) {
+            if (offset == term.length()) {
+                removeId(id);
+            } else {
+                int index = childIndex(term.charAt(offset));
+                if (index < 0) {
+                    return false;
+                }
+                Node child = children[index];
+                int common = child.commonPrefix(term, offset);
+                if (common < child.label.length) {
+                    return false;
+                }
+                if (child.delete(term, offset + common, id)) {
+                    removeChild(index);
+                } else if (child.ids.length == 0 && child.children.length == 1) {
+                    // 통과 노드는 하위 노드와 합쳐서 압축 유지
+                    Node grandChild = child.children[0];
+                    char[] merged = Arrays.copyOf(child.label, child.label.length + grandChild.label.length);
+                    System.arraycopy(grandChild.label, 0, merged, child.label.length, grandChild.label.length);
+                    grandChild.label = merged;
+                    children[index] = grandChild;
+                }
+            }
+            return ids.length == 0 && children.length == 0 && label.length > 0;
+        }
+
+        // 사전순 전위 순회
+        private boolean collect(Set<Long> result, int limit) {
+            for (long id : ids) {
+                result.add(id);
+                if (result.size() >= limit) {
+                    return true;
+                }
+            }
+            for (Node child : children) {
+                if (child.collect(result, limit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void insertChild(int at, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        private void removeChild(int at) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, at);
+            System.arraycopy(children, at + 1, shrunk, at, children.length - at - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        private void addId(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return;
+            }
+            int at = -index - 1;
+            long[] grown = new long[ids.length + 1];
+            System.arraycopy(ids, 0, grown, 0, at);
+            grown[at] = id;
+            System.arraycopy(ids, at, grown, at + 1, ids.length - at);
+            ids = grown;
+        }
+
+        private void removeId(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return;
+            }
+            long[] shrunk = new long[ids.length - 1];
+            System.arraycopy(ids, 0, shrunk, 0, index);
+            System.arraycopy(ids, index + 1, shrunk, index, ids.length - index - 1);
+            ids = shrunk.length == 0 ? NO_IDS : shrunk;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserBulkCreateResponse;
+import com.aido.backend.dto.UserBulkRowResult;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.entity.User;
+import com.aido.backend.event.UserChangedEvent;
+import com.aido.backend.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class UserBulkService {
+
+    // 트랜잭션 하나에서 처리하는 행 수
+    static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public UserBulkService(UserRepository userRepository, Validator validator,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UserBulkCreateResponse createUsers(List<UserDto> users) {
+        List<UserBulkRowResult> results = new ArrayList<>(users.size());
+        for (int from = 0; from < users.size(); from += CHUNK_SIZE) {
+            results.addAll(createChunk(users.subList(from, Math.min(from + CHUNK_SIZE, users.size())), from));
+        }
+        return new UserBulkCreateResponse(results);
+    }
+
+    // 청크마다 별도 트랜잭션 - 앞 청크는 이미 커밋되어 있으므로 청크 간 중복도 DB 조회로 걸러짐
+    public List<UserBulkRowResult> createChunk(List<UserDto> rows, int startIndex) {
+        UserBulkRowResult[] results = new UserBulkRowResult[rows.size()];
+        // 입력 순서대로 INSERT 되도록 LinkedHashMap 사용
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserDto row = rows.get(i);
+            String violation = validate(row);
+            if (violation != null) {
+                results[i] = UserBulkRowResult.rejected(startIndex + i, row != null ? row.getEmail() : null,
+                        UserBulkRowResult.Status.INVALID, violation);
+            } else if (candidates.putIfAbsent(row.getEmail().toLowerCase(Locale.ROOT), i) != null) {
+                results[i] = UserBulkRowResult.rejected(startIndex + i, row.getEmail(), UserBulkRowResult.Status.DUPLICATE,
+                        "Duplicate email in request: " + row.getEmail());
+            }
+        }
+
+        List<UserDto> created = List.of();
+        if (!candidates.isEmpty()) {
+            try {
+                created = transactionTemplate.execute(status -> insertNew(rows, candidates, results, startIndex));
+            } catch (DataIntegrityViolationException e) {
+                // 동시 생성 등으로 unique 제약 위반 - 청크 전체가 롤백되므로 후보를 한 행씩 다시 처리해서 위반한 행만 거절
+                created = insertEach(rows, candidates, results, startIndex);
+            }
+        }
+
+        // 커밋 이후에 캐시/색인 갱신
+        for (UserDto user : created) {
+            eventPublisher.publishEvent(UserChangedEvent.created(user));
+        }
+        return List.of(results);
+    }
+
+    // 행마다 별도 트랜잭션 - 다른 행의 성공/실패와 무관하게 커밋
+    private List<UserDto> insertEach(List<UserDto> rows, Map<String, Integer> candidates,
+                                     UserBulkRowResult[] results, int startIndex) {
+        List<UserDto> created = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int i = candidate.getValue();
+            try {
+                created.addAll(transactionTemplate.execute(status ->
+                        insertNew(rows, Map.of(candidate.getKey(), i), results, startIndex)));
+            } catch (DuplicateKeyException e) {
+                results[i] = UserBulkRowResult.rejected(startIndex + i, rows.get(i).getEmail(),
+                        UserBulkRowResult.Status.DUPLICATE, "Email already exists: " + rows.get(i).getEmail());
+            } catch (DataIntegrityViolationException e) {
+                results[i] = UserBulkRowResult.rejected(startIndex + i, rows.get(i).getEmail(),
+                        UserBulkRowResult.Status.FAILED, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return created;
+    }
+
+    private List<UserDto> insertNew(List<UserDto> rows, Map<String, Integer> candidates,
+                                    UserBulkRowResult[] results, int startIndex) {
+        Set<String> existing = userRepository.findExistingEmails(candidates.keySet()).stream()
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<User> toInsert = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int i = candidate.getValue();
+            UserDto row = rows.get(i);
+            if (existing.contains(candidate.getKey())) {
+                results[i] = UserBulkRowResult.rejected(startIndex + i, row.getEmail(), UserBulkRowResult.Status.DUPLICATE,
+                        "Email already exists: " + row.getEmail());
+            } else {
+                toInsert.add(new User(row.getName(), row.getEmail()));
+                positions.add(i);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return List.of();
+        }
+        userRepository.insertAll(toInsert);
+
+        // 생성된 id는 같은 트랜잭션에서 email로 한 번에 조회
+        Map<String, UserDto> inserted = new HashMap<>();
+        for (UserDto user : userRepository.findDtosByEmailIn(toInsert.stream().map(User::getEmail).toList())) {
+            inserted.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+        }
+        List<UserDto> created = new ArrayList<>(positions.size());
+        for (int i : positions) {
+            UserDto user = inserted.get(rows.get(i).getEmail().toLowerCase(Locale.ROOT));
+            results[i] = UserBulkRowResult.created(startIndex + i, user);
+            created.add(user);
+        }
+        return created;
+    }
+
+    private String validate(UserDto row) {
+        if (row == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<UserDto>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
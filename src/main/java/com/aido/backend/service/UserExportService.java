@@ -0,0 +1,90 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class UserExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    // NDJSON은 한 줄에 하나씩, CBOR/Smile은 최상위 값을 구분자 없이 이어 붙인 시퀀스
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    // CBOR/Smile도 애플리케이션 Jackson 설정(모듈, spring.jackson.*)을 그대로 따르도록 같은 빌더로 생성
+    @Autowired
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper,
+                             Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+    }
+
+    // 전체 사용자를 format 형식으로 하나씩 기록 (fields 컬럼만 조회) - 반환값은 기록한 행 수
+    @Transactional(readOnly = true)
+    public long export(OutputStream out, Format format, UserFieldSet fields) throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case NDJSON -> objectMapper;
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+        };
+        ObjectWriter writer = mapper.writerFor(UserDto.class);
+        long count = 0;
+
+        try (Stream<UserDto> users = fields.isAll() ? userRepository.streamAll() : userRepository.streamProjected(fields);
+             JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (format == Format.NDJSON) {
+                generator.setRootValueSeparator(null);
+            }
+
+            Iterator<UserDto> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,181 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserBulkRowResult;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserImportJob;
+import com.aido.backend.util.CsvReader;
+import com.aido.backend.util.LoggingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    // 완료된 작업 상태는 최근 것만 보관
+    static final int MAX_RETAINED_JOBS = 100;
+
+    private final UserBulkService userBulkService;
+    private final TaskExecutor taskExecutor;
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserImportService(UserBulkService userBulkService, TaskExecutor taskExecutor) {
+        this.userBulkService = userBulkService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    // 업로드 파일은 임시 파일로 옮긴 뒤 백그라운드에서 스트리밍 처리
+    public UserImportJob startImport(MultipartFile file) throws IOException {
+        Path csvFile = Files.createTempFile("user-import-", ".csv");
+        try {
+            file.transferTo(csvFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(csvFile);
+            throw e;
+        }
+        return startImport(csvFile, file.getOriginalFilename());
+    }
+
+    public UserImportJob startImport(Path csvFile, String fileName) {
+        UserImportJob job = new UserImportJob(UUID.randomUUID().toString(), fileName);
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        taskExecutor.execute(() -> run(job, csvFile));
+        return job;
+    }
+
+    public Optional<UserImportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    // 이미 커밋된 청크는 유지되고 다음 청크부터 중단
+    public Optional<UserImportJob> cancel(String jobId) {
+        UserImportJob job = jobs.get(jobId);
+        if (job != null && !job.isFinished()) {
+            job.requestCancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void run(UserImportJob job, Path csvFile) {
+        long startTime = System.currentTimeMillis();
+        job.start();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csvFile, StandardCharsets.UTF_8))) {
+            importRows(job, reader);
+        } catch (IOException | RuntimeException e) {
+            job.finish(UserImportJob.Status.FAILED, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(csvFile);
+            } catch (IOException e) {
+                logger.warn("Failed to delete import file {}", csvFile, e);
+            }
+        }
+
+        Map<String, Object> logInfo = new HashMap<>();
+        logInfo.put("job_id", job.getId());
+        logInfo.put("status", job.getStatus());
+        logInfo.put("processed", job.getProcessed());
+        logInfo.put("created", job.getCreated());
+        logInfo.put("duplicates", job.getDuplicates());
+        logInfo.put("invalid", job.getInvalid());
+        logInfo.put("failed", job.getFailed());
+        logInfo.put("duration_ms", System.currentTimeMillis() - startTime);
+        LoggingUtils.logInfo(logger, "user_import_finished", logInfo);
+    }
+
+    // 청크 하나를 다 쓴 뒤에 다음 청크를 읽으므로 힙에는 최대 한 청크만 존재
+    private void importRows(UserImportJob job, CsvReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            job.finish(UserImportJob.Status.COMPLETED, null);
+            return;
+        }
+        int nameColumn = indexOf(header, "name");
+        int emailColumn = indexOf(header, "email");
+        if (nameColumn < 0 || emailColumn < 0) {
+            job.finish(UserImportJob.Status.FAILED, "CSV header must contain name and email columns");
+            return;
+        }
+
+        List<UserDto> chunk = new ArrayList<>(UserBulkService.CHUNK_SIZE);
+        int rowIndex = 0;
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            chunk.add(new UserDto(null, field(record, nameColumn), field(record, emailColumn)));
+            if (chunk.size() == UserBulkService.CHUNK_SIZE) {
+                if (job.isCancelRequested()) {
+                    job.finish(UserImportJob.Status.CANCELLED, null);
+                    return;
+                }
+                writeChunk(job, chunk, rowIndex);
+                rowIndex += chunk.size();
+                chunk = new ArrayList<>(UserBulkService.CHUNK_SIZE);
+            }
+        }
+        if (job.isCancelRequested()) {
+            job.finish(UserImportJob.Status.CANCELLED, null);
+            return;
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(job, chunk, rowIndex);
+        }
+        job.finish(UserImportJob.Status.COMPLETED, null);
+    }
+
+    private void writeChunk(UserImportJob job, List<UserDto> chunk, int startIndex) {
+        for (UserBulkRowResult result : userBulkService.createChunk(chunk, startIndex)) {
+            job.record(result);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(UserImportJob::isFinished)
+                .sorted(Comparator.comparing(UserImportJob::getCreatedAt))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1)
+                .toList()
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            // UTF-8 BOM 제거
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            if (name.equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> record, int column) {
+        return column < record.size() ? record.get(column).trim() : null;
+    }
+}
@@ -1,85 +1,292 @@
 package com.aido.backend.service;
 
+import com.aido.backend.cache.SingleFlight;
+import com.aido.backend.cache.UserBytesCache;
+import com.aido.backend.cache.UserCache;
+import com.aido.backend.cache.UserEmailFilter;
+import com.aido.backend.datasource.ReadYourWritesContext;
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchResponse;
 import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.dto.UserPage;
+import com.aido.backend.dto.UserVersion;
 import com.aido.backend.entity.User;
+import com.aido.backend.event.UserChangedEvent;
 import com.aido.backend.repository.UserRepository;
+import com.aido.backend.search.UserSearcher;
+import com.aido.backend.search.UserSuggestTrie;
+import com.aido.backend.util.CursorCodec;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class UserService {
 
+    // 한 번의 IN 쿼리에 담는 최대 식별자 수
+    static final int BATCH_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UserBytesCache userBytesCache;
+    private final UserEmailFilter emailFilter;
+    private final UserSearcher userSearcher;
+    private final UserSuggestTrie suggestTrie;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 캐시 미스가 몰릴 때 같은 id/email의 DB 조회는 한 번만 (쓰기 후 읽기는 제외 - primary에서 직접)
+    private final SingleFlight<Long, Optional<UserDto>> byIdFlight;
+    private final SingleFlight<String, Optional<UserDto>> byEmailFlight;
+
+    // UserCache를 채우는 조회는 primary에서 - 지연된 replica에서 읽은 이전 행이
+    // 다른 요청의 수정/삭제 이벤트로 무효화된 뒤에 다시 들어가 TTL 동안 남지 않도록
+    // (읽기 전용이 아닌 트랜잭션이라 같은 요청의 이후 읽기도 primary로 감)
+    private final TransactionTemplate primaryRead;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserCache userCache, UserBytesCache userBytesCache,
+                       UserEmailFilter emailFilter, UserSearcher userSearcher, UserSuggestTrie suggestTrie,
+                       ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.userBytesCache = userBytesCache;
+        this.emailFilter = emailFilter;
+        this.userSearcher = userSearcher;
+        this.suggestTrie = suggestTrie;
+        this.eventPublisher = eventPublisher;
+        this.byIdFlight = new SingleFlight<>(meterRegistry, "id");
+        this.byEmailFlight = new SingleFlight<>(meterRegistry, "email");
+        this.primaryRead = new TransactionTemplate(transactionManager);
     }
 
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return getAllUsers(UserFieldSet.ALL);
+    }
+
+    // 일부 필드만 요청하면 그 컬럼만 조회
+    public List<UserDto> getAllUsers(UserFieldSet fields) {
+        return fields.isAll() ? userRepository.findAllDtos() : userRepository.findAllProjected(fields);
+    }
+
+    public CursorPage<UserDto> getUsers(String cursor, int limit) {
+        return getUsers(cursor, limit, UserFieldSet.ALL);
+    }
+
+    public CursorPage<UserDto> getUsers(String cursor, int limit, UserFieldSet fields) {
+        return getUsersPage(cursor, limit, fields).getPage();
+    }
+
+    // 페이지 버전은 본문과 같은 limit + 1행의 (id, updatedAt)으로 계산 - 다음 페이지 유무가 바뀌어도 ETag가 달라짐
+    public UserPage getUsersPage(String cursor, int limit, UserFieldSet fields) {
+        long afterId = cursor != null ? CursorCodec.decodeId(cursor) : 0L;
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<UserDto> rows = fields.isAll()
+                ? userRepository.findPageAfter(afterId, Limit.of(limit + 1))
+                : userRepository.findProjectedPageAfter(afterId, limit + 1, fields);
+        UserVersion version = rows.isEmpty() ? null : UserVersion.combine(rows.stream()
+                .map(user -> new UserVersion(user.getId(), user.getUpdatedAt()))
+                .toList());
+        if (rows.size() <= limit) {
+            return new UserPage(new CursorPage<>(rows, null), version);
+        }
+        List<UserDto> items = rows.subList(0, limit);
+        return new UserPage(new CursorPage<>(items, CursorCodec.encodeId(items.get(limit - 1).getId())), version);
     }
 
     public Optional<UserDto> getUserById(Long id) {
-        return userRepository.findById(id)
-                .map(this::convertToDto);
+        UserDto cached = userCache.getById(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (ReadYourWritesContext.hasWritten()) {
+            return loadUserById(id);
+        }
+        return byIdFlight.load(id, () -> {
+            // 앞선 조회가 방금 캐시에 넣었을 수 있음
+            UserDto loaded = userCache.getById(id);
+            return loaded != null ? Optional.of(loaded) : loadUserById(id);
+        });
     }
 
     public Optional<UserDto> getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .map(this::convertToDto);
+        UserDto cached = userCache.getByEmail(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (ReadYourWritesContext.hasWritten()) {
+            return loadUserByEmail(email);
+        }
+        return byEmailFlight.load(email.toLowerCase(Locale.ROOT), () -> {
+            UserDto loaded = userCache.getByEmail(email);
+            return loaded != null ? Optional.of(loaded) : loadUserByEmail(email);
+        });
+    }
+
+    private Optional<UserDto> loadUserById(Long id) {
+        Optional<UserDto> user = primaryRead.execute(status -> userRepository.findDtoById(id));
+        user.ifPresent(userCache::put);
+        return user;
     }
 
-    public List<UserDto> searchUsers(String keyword) {
-        return userRepository.findByKeyword(keyword).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    private Optional<UserDto> loadUserByEmail(String email) {
+        Optional<UserDto> user = emailFilter.find(email,
+                () -> primaryRead.execute(status -> userRepository.findDtoByEmail(email)));
+        user.ifPresent(userCache::put);
+        return user;
     }
 
+    // 인코딩된 응답 본문 - 같은 버전이 캐시에 없을 때만 직렬화 (ETag와 본문이 같은 DTO에서 나옴)
+    public byte[] getUserBytes(UserDto user, UserBytesCache.Format format, UserFieldSet fields) {
+        return userBytesCache.get(user, format, fields);
+    }
+
+    // 캐시된 UserDto의 updatedAt으로 계산 - 값이 없는 항목(bulk 생성 이벤트 등)만 DB에서 조회
+    public Optional<UserVersion> getUserVersion(UserDto user) {
+        if (user.getUpdatedAt() != null) {
+            return Optional.of(new UserVersion(user.getId(), user.getUpdatedAt()));
+        }
+        return userRepository.findVersionById(user.getId());
+    }
+
+    public UserBatchResponse getUsersBatch(Collection<Long> ids, Collection<String> emails) {
+        UserBatchResponse response = new UserBatchResponse();
+
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+        Map<Long, UserDto> foundById = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            UserDto cached = userCache.getById(id);
+            if (cached != null) {
+                foundById.put(id, cached);
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+        for (List<Long> chunk : chunks(uncachedIds)) {
+            for (UserDto user : primaryRead.execute(status -> userRepository.findDtosByIdIn(chunk))) {
+                foundById.put(user.getId(), user);
+                userCache.put(user);
+            }
+        }
+        for (Long id : requestedIds) {
+            UserDto user = foundById.get(id);
+            response.getById().put(id, user);
+            if (user == null) {
+                response.getMissingIds().add(id);
+            }
+        }
+
+        Set<String> requestedEmails = new LinkedHashSet<>(emails);
+        requestedEmails.remove(null);
+        // MySQL 기본 collation과 같이 대소문자 구분 없이 매칭
+        Map<String, UserDto> foundByEmail = new HashMap<>();
+        Set<String> uncachedEmails = new LinkedHashSet<>();
+        for (String email : requestedEmails) {
+            UserDto cached = userCache.getByEmail(email);
+            if (cached != null) {
+                foundByEmail.put(email.toLowerCase(Locale.ROOT), cached);
+            } else if (!emailFilter.isDefinitelyAbsent(email)) {
+                uncachedEmails.add(email);
+            }
+        }
+        long changeCount = emailFilter.changeCount();
+        for (List<String> chunk : chunks(new ArrayList<>(uncachedEmails))) {
+            for (UserDto user : primaryRead.execute(status -> userRepository.findDtosByEmailIn(chunk))) {
+                foundByEmail.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+                userCache.put(user);
+            }
+        }
+        for (String email : uncachedEmails) {
+            emailFilter.recordLookup(email, foundByEmail.containsKey(email.toLowerCase(Locale.ROOT)), changeCount);
+        }
+        for (String email : requestedEmails) {
+            UserDto user = foundByEmail.get(email.toLowerCase(Locale.ROOT));
+            response.getByEmail().put(email, user);
+            if (user == null) {
+                response.getMissingEmails().add(email);
+            }
+        }
+        return response;
+    }
+
+    public CursorPage<UserDto> searchUsers(String keyword, String cursor, int limit) {
+        return userSearcher.search(keyword, cursor, limit);
+    }
+
+    public List<UserDto> suggestUsers(String prefix, int limit) {
+        return suggestTrie.suggest(prefix, limit);
+    }
+
+    // 중복 email은 사전 조회 없이 unique 인덱스 위반으로 판단
+    // 생성은 INSERT 한 문장, 수정/삭제는 이전 상태를 잠금 조회(SELECT ... FOR UPDATE)한 뒤 UPDATE/DELETE 한 문장
     public UserDto createUser(UserDto userDto) {
-        if (userRepository.existsByEmail(userDto.getEmail())) {
+        User savedUser;
+        try {
+            savedUser = userRepository.save(convertToEntity(userDto));
+        } catch (DataIntegrityViolationException e) {
             throw new IllegalArgumentException("Email already exists: " + userDto.getEmail());
         }
-        
-        User user = convertToEntity(userDto);
-        User savedUser = userRepository.save(user);
-        return convertToDto(savedUser);
+        UserDto created = convertToDto(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(created));
+        return created;
     }
 
     public UserDto updateUser(Long id, UserDto userDto) {
-        User existingUser = userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
-
-        if (!existingUser.getEmail().equals(userDto.getEmail()) && 
-            userRepository.existsByEmail(userDto.getEmail())) {
+        // 이전 상태는 쓰기 트랜잭션 안에서 행 잠금과 함께 읽음 - 캐시 여부와 관계없이 이벤트에 항상 포함
+        LocalDateTime updatedAt = LocalDateTime.now();
+        Optional<UserDto> previous;
+        try {
+            previous = userRepository.updateProfile(id, userDto.getName(), userDto.getEmail(), updatedAt);
+        } catch (DataIntegrityViolationException e) {
             throw new IllegalArgumentException("Email already exists: " + userDto.getEmail());
         }
+        if (previous.isEmpty()) {
+            throw new IllegalArgumentException("User not found with id: " + id);
+        }
 
-        existingUser.setName(userDto.getName());
-        existingUser.setEmail(userDto.getEmail());
-
-        User savedUser = userRepository.save(existingUser);
-        return convertToDto(savedUser);
+        UserDto current = new UserDto(id, userDto.getName(), userDto.getEmail(), updatedAt);
+        eventPublisher.publishEvent(UserChangedEvent.updated(previous.get(), current));
+        return current;
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new IllegalArgumentException("User not found with id: " + id);
+        UserDto previous = userRepository.deleteUserById(id)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id, previous));
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += BATCH_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + BATCH_CHUNK_SIZE, values.size())));
         }
-        userRepository.deleteById(id);
+        return chunks;
     }
 
     private UserDto convertToDto(User user) {
-        return new UserDto(user.getId(), user.getName(), user.getEmail());
+        return new UserDto(user.getId(), user.getName(), user.getEmail(), user.getUpdatedAt());
     }
 
     private User convertToEntity(UserDto userDto) {
         return new User(userDto.getName(), userDto.getEmail());
     }
-}
\ No newline at end of file
+}
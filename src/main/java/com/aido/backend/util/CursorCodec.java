@@ -0,0 +1,50 @@
+package com.aido.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorCodec {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "offset:";
+
+    // id 기준 keyset 커서
+    public static String encodeId(long id) {
+        return encode(ID_PREFIX, id);
+    }
+
+    public static long decodeId(String cursor) {
+        return decode(ID_PREFIX, cursor);
+    }
+
+    // 관련도 순 정렬처럼 keyset을 쓸 수 없는 경우의 offset 커서
+    public static String encodeOffset(long offset) {
+        return encode(OFFSET_PREFIX, offset);
+    }
+
+    public static long decodeOffset(String cursor) {
+        long offset = decode(OFFSET_PREFIX, cursor);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return offset;
+    }
+
+    private static String encode(String prefix, long value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 파싱 오류 포함
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -77,6 +77,13 @@ public class LoggingUtils {
     public static void logOneLineApi(Logger logger, String method, String uri, Map<String, String> requestHeaders, 
                                      String requestBody, int status, Map<String, String> responseHeaders, String responseBody, 
                                      long duration) {
+        logOneLineApi(logger, method, uri, requestHeaders, requestBody, status, responseHeaders, responseBody, duration, null);
+    }
+
+    // dbStats: db_statements, db_rows, db_time_ms 등 최상위 필드로 추가할 값
+    public static void logOneLineApi(Logger logger, String method, String uri, Map<String, String> requestHeaders, 
+                                     String requestBody, int status, Map<String, String> responseHeaders, String responseBody, 
+                                     long duration, Map<String, Long> dbStats) {
         try {
             ObjectNode logObject = objectMapper.createObjectNode();
             logObject.put("type", "One line log");
@@ -84,6 +91,9 @@ public class LoggingUtils {
             logObject.put("uri", uri);
             logObject.put("status", status);
             logObject.put("duration_ms", duration);
+            if (dbStats != null) {
+                dbStats.forEach(logObject::put);
+            }
             logObject.put("timestamp", System.currentTimeMillis());
             
             // Request 정보
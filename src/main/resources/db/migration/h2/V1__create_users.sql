@@ -0,0 +1,14 @@
+-- mysql/V1과 같은 스키마의 H2 버전 (@DataJpaTest, ddl-auto: validate 검증용)
+CREATE TABLE users (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    name              VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    provider          ENUM ('APPLE','GOOGLE','KAKAO','LOCAL') NOT NULL,
+    provider_id       VARCHAR(100),
+    profile_image_url VARCHAR(500),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    enabled           BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
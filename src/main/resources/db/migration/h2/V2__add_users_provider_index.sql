@@ -0,0 +1,3 @@
+-- OAuth 로그인마다 실행되는 findByProviderAndProviderId / existsByProviderAndProviderId
+-- 선행 컬럼(provider)만으로 findByProvider도 같은 색인 사용
+CREATE INDEX idx_users_provider_provider_id ON users (provider, provider_id);
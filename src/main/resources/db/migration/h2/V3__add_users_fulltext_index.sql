@@ -0,0 +1,2 @@
+-- FULLTEXT(ngram) 색인은 MySQL 전용 - 버전 번호만 맞춤 (search mode fulltext는 H2에서 지원하지 않음)
+SELECT 1;
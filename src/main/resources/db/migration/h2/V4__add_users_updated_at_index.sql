@@ -0,0 +1,2 @@
+-- UserSnapshotLoader 따라잡기 - updated_at 워터마크 이후 변경분을 (updated_at, id) 순으로 조회
+CREATE INDEX idx_users_updated_at_id ON users (updated_at, id);
@@ -0,0 +1,14 @@
+-- Hibernate(MySQL8Dialect)가 User 엔티티로 생성하던 스키마와 동일 - ddl-auto: validate 기준
+CREATE TABLE users (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    name              VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    provider          ENUM ('APPLE','GOOGLE','KAKAO','LOCAL') NOT NULL,
+    provider_id       VARCHAR(100),
+    profile_image_url VARCHAR(500),
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    enabled           BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- search mode fulltext(ft_users_name_email) 용 ngram FULLTEXT 색인
+-- 기존에 애플리케이션이 시작 시 만들었던 DB가 있으므로 없을 때만 생성
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'users' AND index_name = 'ft_users_name_email'
+);
+SET @ddl := IF(@index_exists = 0,
+    'ALTER TABLE users ADD FULLTEXT INDEX ft_users_name_email (name, email) WITH PARSER ngram',
+    'SELECT 1');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
@@ -0,0 +1,101 @@
+package com.aido.backend.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private MeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(meterRegistry, "id");
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent callers for the same key")
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "John Doe";
+            })));
+        }
+        // 나머지 호출이 모두 진행 중인 조회에 합류할 때까지 대기
+        while (count("coalesced") < callers - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("John Doe");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("loaded")).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should load again once previous flight completed")
+    void shouldLoadAgainOncePreviousFlightCompleted() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.load(1L, () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.load(1L, () -> "v" + loads.incrementAndGet());
+
+        // Then
+        assertThat(second).isEqualTo("v2");
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failure and allow retry")
+    void shouldPropagateLoaderFailureAndAllowRetry() {
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.load(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("db down");
+        assertThat(singleFlight.load(1L, () -> "John Doe")).isEqualTo("John Doe");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("aido.user.lookup").tag("by", "id").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.event.UserChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserBytesCacheTest {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final LocalDateTime V2 = V1.plusSeconds(1);
+
+    private UserBytesCache userBytesCache;
+    private UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        userBytesCache = new UserBytesCache(new ConcurrentMapCacheManager(), new ObjectMapper(), new Jackson2ObjectMapperBuilder());
+        user = new UserDto(1L, "John Doe", "john.doe@example.com", V1);
+    }
+
+    @Test
+    @DisplayName("Should cache each format and field set separately")
+    void shouldCacheEachFormatAndFieldSetSeparately() throws Exception {
+        // When
+        byte[] json = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        byte[] sparse = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.valueOf("id,name"));
+        byte[] cbor = userBytesCache.get(user, UserBytesCache.Format.CBOR, UserFieldSet.ALL);
+        byte[] jsonAgain = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+
+        // Then
+        assertThat(new String(json, StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":1,\"name\":\"John Doe\",\"email\":\"john.doe@example.com\"}");
+        assertThat(new String(sparse, StandardCharsets.UTF_8)).isEqualTo("{\"id\":1,\"name\":\"John Doe\"}");
+        assertThat(new CBORMapper().readValue(cbor, UserDto.class).getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(jsonAgain).isSameAs(json);
+        assertThat(sparse).isNotSameAs(json);
+    }
+
+    @Test
+    @DisplayName("Should re-encode all representations after change event")
+    void shouldReEncodeAllRepresentationsAfterChangeEvent() {
+        // Given
+        byte[] before = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        UserDto updated = new UserDto(1L, "John Updated", "john.doe@example.com", V2);
+
+        // When
+        userBytesCache.onUserChanged(UserChangedEvent.updated(user, updated));
+        byte[] json = userBytesCache.get(updated, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+
+        // Then
+        assertThat(json).isNotSameAs(before);
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("John Updated");
+    }
+
+    @Test
+    @DisplayName("Should not serve bytes encoded from a row read before the eviction to a newer version")
+    void shouldNotServeBytesEncodedFromRowReadBeforeEvictionToNewerVersion() {
+        // Given - v1을 읽은 요청이 갱신 이벤트로 무효화된 뒤에 인코딩
+        UserDto updated = new UserDto(1L, "John Updated", "john.doe@example.com", V2);
+        userBytesCache.onUserChanged(UserChangedEvent.updated(user, updated));
+        byte[] stale = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+
+        // When
+        byte[] current = userBytesCache.get(updated, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        byte[] currentAgain = userBytesCache.get(updated, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        byte[] lateStale = userBytesCache.get(user, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+
+        // Then
+        assertThat(new String(stale, StandardCharsets.UTF_8)).contains("John Doe");
+        assertThat(new String(current, StandardCharsets.UTF_8)).contains("John Updated");
+        assertThat(currentAgain).isSameAs(current);
+        assertThat(new String(lateStale, StandardCharsets.UTF_8)).contains("John Doe");
+        assertThat(userBytesCache.get(updated, UserBytesCache.Format.JSON, UserFieldSet.ALL)).isSameAs(current);
+    }
+}
@@ -0,0 +1,70 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(new ConcurrentMapCacheManager());
+        userCache.put(new UserDto(1L, "John Doe", "john.doe@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should find cached user by ID and email")
+    void shouldFindCachedUserByIdAndEmail() {
+        assertThat(userCache.getById(1L)).isNotNull();
+        assertThat(userCache.getByEmail("john.doe@example.com").getId()).isEqualTo(1L);
+        assertThat(userCache.getByEmail("JOHN.DOE@example.com").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should refresh entries and drop old email on update event")
+    void shouldRefreshEntriesAndDropOldEmailOnUpdateEvent() {
+        // Given
+        UserDto previous = new UserDto(1L, "John Doe", "john.doe@example.com");
+        UserDto current = new UserDto(1L, "John Updated", "john.updated@example.com");
+
+        // When
+        userCache.onUserChanged(UserChangedEvent.updated(previous, current));
+
+        // Then
+        assertThat(userCache.getById(1L).getName()).isEqualTo("John Updated");
+        assertThat(userCache.getByEmail("john.doe@example.com")).isNull();
+        assertThat(userCache.getByEmail("john.updated@example.com").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should not resolve stale email mapping when previous state is unknown")
+    void shouldNotResolveStaleEmailMappingWhenPreviousStateIsUnknown() {
+        // Given
+        UserDto current = new UserDto(1L, "John Doe", "john.new@example.com");
+
+        // When
+        userCache.onUserChanged(UserChangedEvent.updated(null, current));
+
+        // Then
+        assertThat(userCache.getByEmail("john.doe@example.com")).isNull();
+        assertThat(userCache.getByEmail("john.new@example.com").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict entries on delete event")
+    void shouldEvictEntriesOnDeleteEvent() {
+        // When
+        userCache.onUserChanged(UserChangedEvent.deleted(1L, null));
+
+        // Then
+        assertThat(userCache.getById(1L)).isNull();
+        assertThat(userCache.getByEmail("john.doe@example.com")).isNull();
+    }
+}
@@ -0,0 +1,173 @@
+package com.aido.backend.cache;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEmailFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserEmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailFilter = new UserEmailFilter(meterRegistry, 1000, 0.01, Duration.ofSeconds(30), 1000);
+        emailFilter.rebuild(List.of(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "Jane Smith", "jane.smith@example.com")).iterator());
+    }
+
+    @Test
+    @DisplayName("Should never rule out registered emails regardless of case")
+    void shouldNeverRuleOutRegisteredEmails() {
+        // When & Then
+        assertThat(emailFilter.isDefinitelyAbsent("john.doe@example.com")).isFalse();
+        assertThat(emailFilter.isDefinitelyAbsent("JANE.SMITH@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should rule out most unregistered emails within configured false positive rate")
+    void shouldRuleOutMostUnregisteredEmails() {
+        // Given
+        List<UserDto> users = new ArrayList<>();
+        for (long i = 1; i <= 1000; i++) {
+            users.add(new UserDto(i, "User " + i, "user" + i + "@example.com"));
+        }
+        emailFilter.rebuild(users.iterator());
+
+        // When
+        int maybe = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (!emailFilter.isDefinitelyAbsent("nobody" + i + "@example.com")) {
+                maybe++;
+            }
+        }
+
+        // Then
+        assertThat(maybe).isLessThan(300);
+        for (UserDto user : users) {
+            assertThat(emailFilter.isDefinitelyAbsent(user.getEmail())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow email changes and deletions from events")
+    void shouldFollowEmailChangesAndDeletionsFromEvents() {
+        // Given
+        UserDto created = new UserDto(3L, "Bob Lee", "bob.lee@example.com");
+        UserDto renamed = new UserDto(3L, "Bob Lee", "bob.new@example.com");
+
+        // When & Then
+        assertThat(emailFilter.isDefinitelyAbsent("bob.lee@example.com")).isTrue();
+        emailFilter.onUserChanged(UserChangedEvent.created(created));
+        assertThat(emailFilter.isDefinitelyAbsent("bob.lee@example.com")).isFalse();
+
+        // 이전 상태 없이 변경 이벤트가 와도 id 기준으로 예전 email을 제거
+        emailFilter.onUserChanged(UserChangedEvent.updated(null, renamed));
+        assertThat(emailFilter.isDefinitelyAbsent("bob.lee@example.com")).isTrue();
+        assertThat(emailFilter.isDefinitelyAbsent("bob.new@example.com")).isFalse();
+
+        emailFilter.onUserChanged(UserChangedEvent.deleted(3L, null));
+        assertThat(emailFilter.isDefinitelyAbsent("bob.new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should skip repeated queries via negative cache until email is registered")
+    void shouldSkipRepeatedQueriesViaNegativeCache() {
+        // Given - 재구축 전에는 필터 없이 negative cache만 사용
+        UserEmailFilter coldFilter = new UserEmailFilter(new SimpleMeterRegistry(), 1000, 0.01, Duration.ofSeconds(30), 1000);
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        Optional<String> first = coldFilter.find("new@example.com", () -> {
+            queries.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> second = coldFilter.find("new@example.com", () -> {
+            queries.incrementAndGet();
+            return Optional.empty();
+        });
+        coldFilter.onUserChanged(UserChangedEvent.created(new UserDto(9L, "New", "new@example.com")));
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(queries).hasValue(1);
+        assertThat(coldFilter.isDefinitelyAbsent("new@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report false positive rate over unregistered lookups")
+    void shouldReportFalsePositiveRate() {
+        // When
+        emailFilter.isDefinitelyAbsent("ghost@example.com");
+        emailFilter.recordLookup("john.doe@example.com", true, emailFilter.changeCount());
+        emailFilter.recordLookup("collision@example.com", false, emailFilter.changeCount());
+
+        // Then
+        assertThat(meterRegistry.get("aido.user.email.filter.false.positive.rate").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("aido.user.email.check").tag("result", "present").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache absence when user was created during the lookup")
+    void shouldNotCacheAbsenceWhenUserWasCreatedDuringTheLookup() {
+        // Given - 조회가 생성 커밋 이전 스냅샷을 읽고, 그 사이 생성 이벤트가 먼저 처리된 경우
+        UserEmailFilter coldFilter = new UserEmailFilter(new SimpleMeterRegistry(), 1000, 0.01, Duration.ofSeconds(30), 1000);
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        Optional<String> stale = coldFilter.find("race@example.com", () -> {
+            queries.incrementAndGet();
+            coldFilter.onUserChanged(UserChangedEvent.created(new UserDto(7L, "Race", "race@example.com")));
+            return Optional.empty();
+        });
+        Optional<String> fresh = coldFilter.find("race@example.com", () -> {
+            queries.incrementAndGet();
+            return Optional.of("race@example.com");
+        });
+
+        // Then
+        assertThat(stale).isEmpty();
+        assertThat(fresh).contains("race@example.com");
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep fingerprints reachable after removals and growth")
+    void shouldKeepFingerprintsReachableAfterRemovalsAndGrowth() {
+        // Given
+        UserEmailFilter.FingerprintTable table = new UserEmailFilter.FingerprintTable();
+        for (long id = 1; id <= 10_000; id++) {
+            table.put(id, id * 31);
+        }
+
+        // When
+        for (long id = 1; id <= 10_000; id += 2) {
+            table.remove(id);
+        }
+        long replaced = table.put(10L, 99L);
+
+        // Then
+        assertThat(table.size()).isEqualTo(5_000);
+        assertThat(table.capacity()).isEqualTo(16_384);
+        assertThat(replaced).isEqualTo(310L);
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(table.contains(id)).isEqualTo(id % 2 == 0);
+        }
+        assertThat(table.remove(10L)).isEqualTo(99L);
+        assertThat(table.remove(4L)).isEqualTo(124L);
+    }
+}
@@ -1,31 +1,61 @@
 package com.aido.backend.controller;
 
+import com.aido.backend.cache.UserBytesCache;
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchRequest;
+import com.aido.backend.dto.UserBatchResponse;
+import com.aido.backend.dto.UserBulkCreateResponse;
+import com.aido.backend.dto.UserBulkRowResult;
 import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.dto.UserPage;
+import com.aido.backend.dto.UserImportJob;
+import com.aido.backend.dto.UserVersion;
+import com.aido.backend.service.UserBulkService;
+import com.aido.backend.service.UserExportService;
+import com.aido.backend.service.UserImportService;
 import com.aido.backend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+// 컨트롤러 동작만 검증 - 보안/로깅 필터 체인은 제외
 @WebMvcTest(UserController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class UserControllerTest {
 
     @Autowired
@@ -34,6 +64,15 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserExportService userExportService;
+
+    @MockBean
+    private UserBulkService userBulkService;
+
+    @MockBean
+    private UserImportService userImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -51,10 +90,10 @@ class UserControllerTest {
         UserDto userDto2 = new UserDto(2L, "Jane Smith", "jane.smith@example.com");
         List<UserDto> users = Arrays.asList(testUserDto, userDto2);
         
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getAllUsers(UserFieldSet.ALL)).thenReturn(users);
 
         // When & Then
-        mockMvc.perform(get("/api/users"))
+        mockMvc.perform(get("/api/users").param("unpaged", "true"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
@@ -63,7 +102,111 @@ class UserControllerTest {
                 .andExpect(jsonPath("$[1].name", is("Jane Smith")))
                 .andExpect(jsonPath("$[1].email", is("jane.smith@example.com")));
 
-        verify(userService).getAllUsers();
+        verify(userService).getAllUsers(UserFieldSet.ALL);
+    }
+
+    @Test
+    @DisplayName("Should get users page with next cursor")
+    void shouldGetUsersPageWithNextCursor() throws Exception {
+        // Given
+        CursorPage<UserDto> page = new CursorPage<>(List.of(testUserDto), "aWQ6MQ");
+        when(userService.getUsersPage(null, 1, UserFieldSet.ALL)).thenReturn(new UserPage(page, null));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.next", is("aWQ6MQ")));
+
+        verify(userService).getUsersPage(null, 1, UserFieldSet.ALL);
+        verify(userService, never()).getAllUsers(any());
+    }
+
+    @Test
+    @DisplayName("Should answer users page with 304 when If-None-Match matches the version of the loaded rows")
+    void shouldAnswerUsersPageWith304WhenIfNoneMatchMatches() throws Exception {
+        // Given
+        UserVersion version = UserVersion.combine(List.of(new UserVersion(1L, LocalDateTime.of(2024, 1, 1, 12, 0))));
+        String etag = version.forRepresentation("json." + UserFieldSet.ALL.getMask()).getEtag();
+        when(userService.getUsersPage(null, 20, UserFieldSet.ALL))
+                .thenReturn(new UserPage(new CursorPage<>(List.of(testUserDto), null), version));
+
+        // When & Then
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+        mockMvc.perform(get("/api/users").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is invalid")
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        // Given
+        when(userService.getUsersPage(eq("bogus"), anyInt(), any(UserFieldSet.class))).thenThrow(new IllegalArgumentException("Invalid cursor: bogus"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream users as NDJSON")
+    void shouldStreamUsersAsNdjson() throws Exception {
+        // Given
+        when(userExportService.export(any(OutputStream.class), eq(UserExportService.Format.NDJSON), eq(UserFieldSet.ALL))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Should stream users as CBOR when requested")
+    void shouldStreamUsersAsCborWhenRequested() throws Exception {
+        // Given
+        when(userExportService.export(any(OutputStream.class), eq(UserExportService.Format.CBOR), eq(UserFieldSet.ALL))).thenReturn(0L);
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/users/export").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=users.cbor"));
+        verify(userExportService).export(any(OutputStream.class), eq(UserExportService.Format.CBOR), eq(UserFieldSet.ALL));
+    }
+
+    @Test
+    @DisplayName("Should get user by ID as CBOR when requested")
+    void shouldGetUserByIdAsCbor() throws Exception {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.CBOR, UserFieldSet.ALL))
+                .thenReturn(new CBORMapper().writeValueAsBytes(testUserDto));
+
+        // When
+        byte[] response = mockMvc.perform(get("/api/users/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        UserDto user = new CBORMapper().readValue(response, UserDto.class);
+        assertThat(user.getName()).isEqualTo("John Doe");
     }
 
     @Test
@@ -71,28 +214,117 @@ class UserControllerTest {
     void shouldGetUserByIdWhenUserExists() throws Exception {
         // Given
         when(userService.getUserById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL))
+                .thenReturn(objectMapper.writeValueAsBytes(testUserDto));
 
         // When & Then
         mockMvc.perform(get("/api/users/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
                 .andExpect(jsonPath("$.name", is("John Doe")))
                 .andExpect(jsonPath("$.email", is("john.doe@example.com")));
 
-        verify(userService).getUserById(1L);
+        verify(userService).getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+    }
+
+    @Test
+    @DisplayName("Should omit fields not listed in fields parameter")
+    void shouldOmitFieldsNotListedInFieldsParameter() throws Exception {
+        // Given
+        UserFieldSet fields = UserFieldSet.valueOf("id,name");
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.JSON, fields))
+                .thenReturn(objectMapper.writeValueAsBytes(fields.apply(testUserDto)));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.name", is("John Doe")))
+                .andExpect(jsonPath("$.email").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when fields parameter has unknown field")
+    void shouldReturn400WhenFieldsParameterHasUnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersPage(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should return ETag and answer matching If-None-Match with 304")
+    void shouldReturnEtagAndAnswerMatchingIfNoneMatchWith304() throws Exception {
+        // Given
+        UserVersion version = new UserVersion(1L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        String etag = version.forRepresentation("json." + UserFieldSet.ALL.getMask()).getEtag();
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserVersion(testUserDto)).thenReturn(Optional.of(version));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL))
+                .thenReturn(objectMapper.writeValueAsBytes(testUserDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+        mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+
+        verify(userService, times(1)).getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL);
+    }
+
+    @Test
+    @DisplayName("Should not answer 304 when If-None-Match belongs to another representation")
+    void shouldNotAnswer304WhenIfNoneMatchBelongsToAnotherRepresentation() throws Exception {
+        // Given
+        UserVersion version = new UserVersion(1L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        String jsonEtag = version.forRepresentation("json." + UserFieldSet.ALL.getMask()).getEtag();
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserVersion(testUserDto)).thenReturn(Optional.of(version));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.CBOR, UserFieldSet.ALL))
+                .thenReturn(new CBORMapper().writeValueAsBytes(testUserDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, version.forRepresentation("cbor." + UserFieldSet.ALL.getMask()).getEtag()));
+    }
+
+    @Test
+    @DisplayName("Should answer If-Modified-Since on email lookup with 304")
+    void shouldAnswerIfModifiedSinceOnEmailLookupWith304() throws Exception {
+        // Given
+        UserVersion version = new UserVersion(1L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(userService.getUserByEmail("john.doe@example.com")).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserVersion(testUserDto)).thenReturn(Optional.of(version));
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfModifiedSince(version.getLastModified());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/email/john.doe@example.com").headers(conditional))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUserBytes(any(), any(), any());
     }
 
     @Test
     @DisplayName("Should return 404 when user not found by ID")
     void shouldReturn404WhenUserNotFoundById() throws Exception {
         // Given
-        when(userService.getUserById(anyLong())).thenReturn(Optional.empty());
+        when(userService.getUserById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/api/users/999"))
                 .andExpect(status().isNotFound());
 
-        verify(userService).getUserById(999L);
+        verify(userService, never()).getUserBytes(any(), any(), any());
     }
 
     @Test
@@ -100,6 +332,8 @@ class UserControllerTest {
     void shouldGetUserByEmailWhenUserExists() throws Exception {
         // Given
         when(userService.getUserByEmail("john.doe@example.com")).thenReturn(Optional.of(testUserDto));
+        when(userService.getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL))
+                .thenReturn(objectMapper.writeValueAsBytes(testUserDto));
 
         // When & Then
         mockMvc.perform(get("/api/users/email/john.doe@example.com"))
@@ -108,24 +342,116 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.name", is("John Doe")))
                 .andExpect(jsonPath("$.email", is("john.doe@example.com")));
 
-        verify(userService).getUserByEmail("john.doe@example.com");
+        verify(userService).getUserBytes(testUserDto, UserBytesCache.Format.JSON, UserFieldSet.ALL);
     }
 
     @Test
     @DisplayName("Should search users by keyword")
     void shouldSearchUsersByKeyword() throws Exception {
         // Given
-        List<UserDto> users = Arrays.asList(testUserDto);
-        when(userService.searchUsers("John")).thenReturn(users);
+        CursorPage<UserDto> page = new CursorPage<>(Arrays.asList(testUserDto), "b2Zmc2V0OjIw");
+        when(userService.searchUsers("John", null, 20)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/users/search").param("keyword", "John"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.next", is("b2Zmc2V0OjIw")));
+
+        verify(userService).searchUsers("John", null, 20);
+    }
+
+    @Test
+    @DisplayName("Should resolve users in batch with null for missing entries")
+    void shouldResolveUsersInBatchWithNullForMissingEntries() throws Exception {
+        // Given
+        UserBatchResponse response = new UserBatchResponse();
+        response.getById().put(1L, testUserDto);
+        response.getById().put(99L, null);
+        response.getMissingIds().add(99L);
+        when(userService.getUsersBatch(List.of(1L, 99L), List.of())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserBatchRequest(List.of(1L, 99L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byId.1.name", is("John Doe")))
+                .andExpect(jsonPath("$.byId.99").value(nullValue()))
+                .andExpect(jsonPath("$.missingIds[0]", is(99)));
+    }
+
+    @Test
+    @DisplayName("Should create users in bulk with per-row outcomes")
+    void shouldCreateUsersInBulkWithPerRowOutcomes() throws Exception {
+        // Given
+        List<UserDto> rows = List.of(
+                new UserDto(null, "John Doe", "john.doe@example.com"),
+                new UserDto(null, "John Doe", "john.doe@example.com"));
+        UserBulkCreateResponse response = new UserBulkCreateResponse(List.of(
+                UserBulkRowResult.created(0, testUserDto),
+                UserBulkRowResult.rejected(1, "john.doe@example.com", UserBulkRowResult.Status.DUPLICATE, "Duplicate")));
+        when(userBulkService.createUsers(anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.results[0].id", is(1)))
+                .andExpect(jsonPath("$.results[1].status", is("DUPLICATE")));
+    }
+
+    @Test
+    @DisplayName("Should accept CSV import and expose job status")
+    void shouldAcceptCsvImportAndExposeJobStatus() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "name,email\nJohn Doe,john.doe@example.com\n".getBytes(StandardCharsets.UTF_8));
+        UserImportJob job = new UserImportJob("job-1", "users.csv");
+        when(userImportService.startImport(any(MultipartFile.class))).thenReturn(job);
+        when(userImportService.getJob("job-1")).thenReturn(Optional.of(job));
+        when(userImportService.getJob("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(multipart("/api/users/import").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is("job-1")))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+        mockMvc.perform(get("/api/users/import/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed", is(0)));
+        mockMvc.perform(get("/api/users/import/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should suggest users with clamped limit")
+    void shouldSuggestUsersWithClampedLimit() throws Exception {
+        // Given
+        when(userService.suggestUsers("jo", 20)).thenReturn(Arrays.asList(testUserDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/suggest").param("prefix", "jo").param("limit", "500"))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].name", is("John Doe")));
 
-        verify(userService).searchUsers("John");
+        verify(userService).suggestUsers("jo", 20);
+    }
+
+    @Test
+    @DisplayName("Should reject suggest with non-positive limit")
+    void shouldRejectSuggestWithNonPositiveLimit() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users/suggest").param("prefix", "jo").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).suggestUsers(anyString(), anyInt());
     }
 
     @Test
@@ -150,6 +476,28 @@ class UserControllerTest {
         verify(userService).createUser(any(UserDto.class));
     }
 
+    @Test
+    @DisplayName("Should accept CBOR request body and answer in Smile")
+    void shouldAcceptCborBodyAndAnswerInSmile() throws Exception {
+        // Given
+        UserDto newUserDto = new UserDto(null, "John Doe", "john.doe@example.com");
+        when(userService.createUser(any(UserDto.class))).thenReturn(new UserDto(1L, "John Doe", "john.doe@example.com"));
+
+        // When
+        byte[] response = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept("application/x-jackson-smile")
+                        .content(new CBORMapper().writeValueAsBytes(newUserDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        UserDto created = new SmileMapper().readValue(response, UserDto.class);
+        assertThat(created.getId()).isEqualTo(1L);
+        assertThat(created.getEmail()).isEqualTo("john.doe@example.com");
+    }
+
     @Test
     @DisplayName("Should return 400 when creating user with invalid data")
     void shouldReturn400WhenCreatingUserWithInvalidData() throws Exception {
@@ -0,0 +1,133 @@
+package com.aido.backend.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+        // 로컬 H2에는 복제 상태가 없으므로 지연 확인은 끄고 setHealthy로 흉내 냄
+        lagMonitor = new ReplicaLagMonitor(List.of(replica), "", 5);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, List.of(replica), lagMonitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to replica and writes to primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        // When
+        String readNode = readOnlyTx.execute(status -> currentNode());
+        String writeNode = writeTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(readNode).isEqualTo("replica");
+        assertThat(writeNode).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should fall back to primary when replica is lagging")
+    void shouldFallBackToPrimaryWhenReplicaIsLagging() {
+        // Given
+        lagMonitor.setHealthy(0, false);
+
+        // When
+        String readNode = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(readNode).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep reads on primary after a write in the same request")
+    void shouldKeepReadsOnPrimaryAfterWriteInSameRequest() {
+        // Given
+        ReadYourWritesContext.begin();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        // When
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        String readNode = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(readNode).isEqualTo("primary");
+
+        // 다음 요청에서는 다시 replica
+        ReadYourWritesContext.clear();
+        ReadYourWritesContext.begin();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should not pin reads to primary outside a request")
+    void shouldNotPinReadsOutsideRequest() {
+        // When
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        String readNode = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(readNode).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should mark replica unhealthy when lag query fails")
+    void shouldMarkReplicaUnhealthyWhenLagQueryFails() {
+        // Given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(node("replica")), "SHOW REPLICA STATUS", 5);
+
+        // When
+        monitor.checkLag();
+
+        // Then
+        assertThat(monitor.isHealthy(0)).isFalse();
+        assertThat(monitor.healthyReplicas()).isEmpty();
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTx.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package com.aido.backend.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatsDataSourceTest {
+
+    private JdbcDataSource target;
+    private SqlStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:stats-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT, name VARCHAR(20))");
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name) VALUES (?, ?)",
+                List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"}));
+        dataSource = new SqlStatsDataSource(target);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.end();
+    }
+
+    @Test
+    @DisplayName("Should accumulate statements, fetched rows and DB time for current request")
+    void shouldAccumulateStatsForCurrentRequest() {
+        // Given
+        SqlStats.begin();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // When
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM users ORDER BY id", String.class);
+        jdbcTemplate.update("UPDATE users SET name = ? WHERE id = ?", "z", 1L);
+        SqlStats stats = SqlStats.end();
+
+        // Then
+        assertThat(names).containsExactly("a", "b", "c");
+        assertThat(stats.getStatements()).isEqualTo(2);
+        assertThat(stats.getRows()).isEqualTo(3);
+        assertThat(stats.getNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should return unwrapped connection outside a request")
+    void shouldReturnUnwrappedConnectionOutsideRequest() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            // Then
+            assertThat(connection.getClass().getName()).startsWith("org.h2");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.aido.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserFieldSetTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should parse field list into shared instance regardless of order and case")
+    void shouldParseFieldListIntoSharedInstance() {
+        // When
+        UserFieldSet first = UserFieldSet.valueOf("id,name");
+        UserFieldSet second = UserFieldSet.valueOf(" NAME , id ");
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.includes(UserFieldSet.Field.ID)).isTrue();
+        assertThat(first.includes(UserFieldSet.Field.EMAIL)).isFalse();
+        assertThat(first.toString()).isEqualTo("id,name");
+    }
+
+    @Test
+    @DisplayName("Should treat blank field list as all fields")
+    void shouldTreatBlankFieldListAsAllFields() {
+        // When & Then
+        assertThat(UserFieldSet.valueOf("")).isSameAs(UserFieldSet.ALL);
+        assertThat(UserFieldSet.valueOf(" , ")).isSameAs(UserFieldSet.ALL);
+        assertThat(UserFieldSet.orAll(null)).isSameAs(UserFieldSet.ALL);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown field")
+    void shouldRejectUnknownField() {
+        // When & Then
+        assertThatThrownBy(() -> UserFieldSet.valueOf("id,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("Should serialize only selected fields")
+    void shouldSerializeOnlySelectedFields() throws Exception {
+        // Given
+        UserDto user = new UserDto(1L, "John Doe", "john.doe@example.com");
+
+        // When
+        String full = objectMapper.writeValueAsString(user);
+        String sparse = objectMapper.writeValueAsString(UserFieldSet.valueOf("email,id").apply(user));
+
+        // Then
+        assertThat(full).isEqualTo("{\"id\":1,\"name\":\"John Doe\",\"email\":\"john.doe@example.com\"}");
+        assertThat(sparse).isEqualTo("{\"id\":1,\"email\":\"john.doe@example.com\"}");
+        assertThat(user.getFieldSet()).isNull();
+    }
+}
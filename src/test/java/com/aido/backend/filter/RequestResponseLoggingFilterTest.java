@@ -0,0 +1,98 @@
+package com.aido.backend.filter;
+
+import com.aido.backend.datasource.SqlStatsDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestResponseLoggingFilterTest {
+
+    private final AtomicReference<String> bodyThread = new AtomicReference<>();
+
+    private MeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:filter-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(target);
+        setup.execute("CREATE TABLE users (id BIGINT, name VARCHAR(20))");
+        setup.batchUpdate("INSERT INTO users (id, name) VALUES (?, ?)",
+                List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlStatsDataSource(target));
+
+        meterRegistry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(jdbcTemplate, bodyThread))
+                .addFilters(new RequestResponseLoggingFilter(provider))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should record SQL stats of a streaming body written on the async thread")
+    void shouldRecordSqlStatsOfStreamingBodyWrittenOnAsyncThread() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // Then
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo("a\nb\n");
+        assertThat(bodyThread.get()).isNotEqualTo(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("aido.request.db.statements").tag("endpoint", "/api/users/export")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("aido.request.db.rows").tag("endpoint", "/api/users/export")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @RestController
+    static class ExportController {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final AtomicReference<String> bodyThread;
+
+        ExportController(JdbcTemplate jdbcTemplate, AtomicReference<String> bodyThread) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.bodyThread = bodyThread;
+        }
+
+        @GetMapping("/api/users/export")
+        StreamingResponseBody export() {
+            return out -> {
+                bodyThread.set(Thread.currentThread().getName());
+                for (String name : jdbcTemplate.queryForList("SELECT name FROM users ORDER BY id", String.class)) {
+                    out.write((name + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.aido.backend.grpc;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.grpc.proto.GetUserByIdRequest;
+import com.aido.backend.grpc.proto.UserLookupGrpc;
+import com.aido.backend.service.UserService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenAuthInterceptorTest {
+
+    @Mock
+    private UserService userService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(new UserLookupGrpcService(userService))
+                .intercept(new TokenAuthInterceptor("s3cret"))
+                .build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should serve calls that carry the bearer token")
+    void shouldServeCallsThatCarryTheBearerToken() {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Optional.of(new UserDto(1L, "John Doe", "john.doe@example.com")));
+
+        // When
+        String name = stub("Bearer s3cret").getUserById(GetUserByIdRequest.newBuilder().setId(1L).build()).getName();
+
+        // Then
+        assertThat(name).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("Should reject calls without or with a wrong token before reaching the service")
+    void shouldRejectCallsWithoutOrWithWrongToken() {
+        // When & Then
+        for (String authorization : new String[]{null, "Bearer wrong", "s3cret"}) {
+            assertThatThrownBy(() -> stub(authorization).getUserById(GetUserByIdRequest.newBuilder().setId(1L).build()))
+                    .isInstanceOf(StatusRuntimeException.class)
+                    .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                    .isEqualTo(Status.Code.UNAUTHENTICATED);
+        }
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should refuse a blank token")
+    void shouldRefuseBlankToken() {
+        // When & Then
+        assertThatThrownBy(() -> new TokenAuthInterceptor(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UserLookupGrpc.UserLookupBlockingStub stub(String authorization) {
+        UserLookupGrpc.UserLookupBlockingStub stub = UserLookupGrpc.newBlockingStub(channel);
+        if (authorization == null) {
+            return stub;
+        }
+        Metadata headers = new Metadata();
+        headers.put(TokenAuthInterceptor.AUTHORIZATION, authorization);
+        return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
@@ -0,0 +1,208 @@
+package com.aido.backend.grpc;
+
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchResponse;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.grpc.proto.*;
+import com.aido.backend.service.UserService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupGrpcServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private UserLookupGrpcService service;
+    private Server server;
+    private ManagedChannel channel;
+    private UserLookupGrpc.UserLookupBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new UserLookupGrpcService(userService);
+        ReflectionTestUtils.setField(service, "maxPageLimit", 2);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(service, "maxStreamLimit", 5);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = UserLookupGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should get user by ID when user exists")
+    void shouldGetUserByIdWhenUserExists() {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Optional.of(new UserDto(1L, "John Doe", "john@example.com")));
+
+        // When
+        User user = stub.getUserById(GetUserByIdRequest.newBuilder().setId(1L).build());
+
+        // Then
+        assertThat(user.getId()).isEqualTo(1L);
+        assertThat(user.getName()).isEqualTo("John Doe");
+        assertThat(user.getEmail()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return NOT_FOUND when user not found by email")
+    void shouldReturnNotFoundWhenUserNotFoundByEmail() {
+        // Given
+        when(userService.getUserByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> stub.getUserByEmail(
+                GetUserByEmailRequest.newBuilder().setEmail("nobody@example.com").build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should resolve batch with found users and missing identifiers")
+    void shouldResolveBatchWithMissingIdentifiers() {
+        // Given
+        UserDto john = new UserDto(1L, "John Doe", "john@example.com");
+        Map<Long, UserDto> byId = new LinkedHashMap<>();
+        byId.put(1L, john);
+        byId.put(9L, null);
+        Map<String, UserDto> byEmail = new LinkedHashMap<>();
+        byEmail.put("john@example.com", john);
+        UserBatchResponse batch = new UserBatchResponse();
+        batch.setById(byId);
+        batch.setByEmail(byEmail);
+        batch.setMissingIds(List.of(9L));
+        batch.setMissingEmails(List.of());
+        when(userService.getUsersBatch(List.of(1L, 9L), List.of("john@example.com"))).thenReturn(batch);
+
+        // When
+        GetUsersBatchResponse response = stub.getUsersBatch(GetUsersBatchRequest.newBuilder()
+                .addIds(1L).addIds(9L).addEmails("john@example.com").build());
+
+        // Then
+        assertThat(response.getUsersList()).extracting(User::getId).containsExactly(1L);
+        assertThat(response.getMissingIdsList()).containsExactly(9L);
+        assertThat(response.getMissingEmailsList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject batch over max size")
+    void shouldRejectBatchOverMaxSize() {
+        // When & Then
+        assertThatThrownBy(() -> stub.getUsersBatch(GetUsersBatchRequest.newBuilder()
+                .addIds(1L).addIds(2L).addIds(3L).addEmails("a@example.com").build()))
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should stream all users across pages")
+    void shouldStreamAllUsersAcrossPages() {
+        // Given
+        when(userService.getUsers(isNull(), eq(2))).thenReturn(new CursorPage<>(List.of(
+                new UserDto(1L, "A", "a@example.com"), new UserDto(2L, "B", "b@example.com")), "c1"));
+        when(userService.getUsers("c1", 2)).thenReturn(new CursorPage<>(List.of(
+                new UserDto(3L, "C", "c@example.com")), null));
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        stub.listUsers(ListUsersRequest.newBuilder().build()).forEachRemaining(user -> ids.add(user.getId()));
+
+        // Then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should stop search stream at requested limit")
+    void shouldStopSearchStreamAtLimit() {
+        // Given
+        when(userService.searchUsers(eq("doe"), isNull(), anyInt())).thenReturn(new CursorPage<>(List.of(
+                new UserDto(1L, "John Doe", "john@example.com")), "c1"));
+
+        // When
+        List<User> users = new ArrayList<>();
+        stub.searchUsers(SearchUsersRequest.newBuilder().setKeyword("doe").setLimit(1).build())
+                .forEachRemaining(users::add);
+
+        // Then
+        assertThat(users).extracting(User::getName).containsExactly("John Doe");
+        verify(userService).searchUsers("doe", null, 1);
+        verifyNoMoreInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should reject stream limit over max")
+    void shouldRejectStreamLimitOverMax() {
+        // When & Then
+        assertThatThrownBy(() -> stub.listUsers(ListUsersRequest.newBuilder().setLimit(6).build()).hasNext())
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should pause streaming while the client is not ready and resume on ready")
+    void shouldPauseStreamingWhileClientIsNotReady() {
+        // Given
+        when(userService.getUsers(isNull(), eq(2))).thenReturn(new CursorPage<>(List.of(
+                new UserDto(1L, "A", "a@example.com"), new UserDto(2L, "B", "b@example.com")), "c1"));
+        when(userService.getUsers("c1", 2)).thenReturn(new CursorPage<>(List.of(
+                new UserDto(3L, "C", "c@example.com")), null));
+        @SuppressWarnings("unchecked")
+        ServerCallStreamObserver<User> call = mock(ServerCallStreamObserver.class);
+        // 첫 사용자 하나를 보낸 뒤 전송 버퍼가 가득 참
+        when(call.isReady()).thenReturn(true, true, false);
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+
+        // When
+        service.listUsers(ListUsersRequest.getDefaultInstance(), call);
+        verify(call).setOnReadyHandler(onReady.capture());
+        verify(call, times(1)).onNext(any());
+        verify(userService, never()).getUsers("c1", 2);
+        when(call.isReady()).thenReturn(true);
+        onReady.getValue().run();
+
+        // Then
+        ArgumentCaptor<User> sent = ArgumentCaptor.forClass(User.class);
+        verify(call, times(3)).onNext(sent.capture());
+        assertThat(sent.getAllValues()).extracting(User::getId).containsExactly(1L, 2L, 3L);
+        verify(call).onCompleted();
+    }
+}
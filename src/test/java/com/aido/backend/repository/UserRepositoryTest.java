@@ -1,5 +1,6 @@
 package com.aido.backend.repository;
 
+import com.aido.backend.dto.UserDto;
 import com.aido.backend.entity.User;
 import com.aido.backend.enums.AuthProvider;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,13 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+// 스키마는 Flyway db/migration/h2로 생성하고 ddl-auto: validate로 엔티티와 대조
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
 class UserRepositoryTest {
 
     @Autowired
@@ -239,4 +243,45 @@ class UserRepositoryTest {
         assertThat(savedUser.getUpdatedAt()).isNotNull();
         assertThat(savedUser.isEnabled()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should find users changed after the (updatedAt, id) watermark in watermark order")
+    void shouldFindUsersChangedAfterWatermarkInWatermarkOrder() {
+        // Given
+        LocalDateTime t1 = LocalDateTime.of(2024, 1, 1, 12, 0);
+        testUser1.setUpdatedAt(t1.plusSeconds(1));
+        testUser2.setUpdatedAt(t1);
+        User testUser3 = new User("Bob Lee", "bob.lee@example.com");
+        testUser3.setUpdatedAt(t1);
+        User old = new User("Old User", "old.user@example.com");
+        old.setUpdatedAt(t1.minusSeconds(1));
+        entityManager.persist(testUser1);
+        entityManager.persist(testUser2);
+        entityManager.persist(testUser3);
+        entityManager.persist(old);
+        entityManager.flush();
+
+        // When
+        List<UserDto> changed = userRepository.findChangedAfter(t1, testUser2.getId(), Limit.of(10));
+
+        // Then
+        assertThat(changed).extracting(UserDto::getEmail).containsExactly("bob.lee@example.com", "john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should create schema with login index through Flyway migrations")
+    void shouldCreateSchemaWithLoginIndexThroughFlywayMigrations() {
+        // When
+        List<Object> versions = entityManager.getEntityManager()
+                .createNativeQuery("SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"")
+                .getResultList();
+        List<Object> indexColumns = entityManager.getEntityManager()
+                .createNativeQuery("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                        "WHERE INDEX_NAME = 'IDX_USERS_PROVIDER_PROVIDER_ID' ORDER BY ORDINAL_POSITION")
+                .getResultList();
+
+        // Then
+        assertThat(versions).containsExactly("1", "2", "3", "4");
+        assertThat(indexColumns).containsExactly("PROVIDER", "PROVIDER_ID");
+    }
+}
@@ -0,0 +1,130 @@
+package com.aido.backend.repository;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.entity.User;
+import com.aido.backend.enums.AuthProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋 후에 채워지므로 테스트 트랜잭션 없이 실행 - 리포지토리 호출마다 별도 세션/트랜잭션
+// 실행된 SQL 수는 Hibernate Statistics의 prepareStatementCount로 확인
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        savedUser = userRepository.save(new User("Cache User", "cache.user@example.com", AuthProvider.GOOGLE, "google-cache-1"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("Should resolve repeated email lookup from natural id cache without SQL")
+    void shouldResolveRepeatedEmailLookupFromNaturalIdCacheWithoutSql() {
+        // Given
+        userRepository.findByEmail("cache.user@example.com");
+        statistics.clear();
+
+        // When
+        Optional<User> foundUser = userRepository.findByEmail("cache.user@example.com");
+
+        // Then
+        assertThat(foundUser).map(User::getId).contains(savedUser.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resolve repeated provider lookup from query cache without SQL")
+    void shouldResolveRepeatedProviderLookupFromQueryCacheWithoutSql() {
+        // Given
+        userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1");
+        statistics.clear();
+
+        // When
+        Optional<User> foundUser = userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1");
+        boolean exists = userRepository.existsByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1");
+        boolean existsAgain = userRepository.existsByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1");
+
+        // Then
+        assertThat(foundUser).map(User::getId).contains(savedUser.getId());
+        assertThat(exists).isTrue();
+        assertThat(existsAgain).isTrue();
+        // exists는 첫 호출에서만 SQL 1회, findByProviderAndProviderId는 쿼리 캐시 + 엔티티 리전에서 해석
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict only the updated user and its emails from second level cache")
+    void shouldEvictOnlyTheUpdatedUserAndItsEmailsFromSecondLevelCache() {
+        // Given
+        User otherUser = userRepository.save(new User("Other User", "other.user@example.com"));
+        userRepository.findByEmail("cache.user@example.com");
+        userRepository.findByEmail("other.user@example.com");
+
+        // When
+        Optional<UserDto> previous = userRepository.updateProfile(savedUser.getId(), "Renamed User",
+                "renamed.user@example.com", LocalDateTime.now());
+        statistics.clear();
+        Optional<User> otherFound = userRepository.findByEmail("other.user@example.com");
+        long otherStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(previous).map(UserDto::getEmail).contains("cache.user@example.com");
+        assertThat(otherFound).map(User::getId).contains(otherUser.getId());
+        assertThat(otherStatements).isZero();
+        assertThat(userRepository.findByEmail("cache.user@example.com")).isEmpty();
+        assertThat(userRepository.findByEmail("renamed.user@example.com")).map(User::getName).contains("Renamed User");
+        assertThat(userRepository.findById(savedUser.getId())).map(User::getEmail).contains("renamed.user@example.com");
+    }
+
+    @Test
+    @DisplayName("Should not resolve deleted user from second level or query cache")
+    void shouldNotResolveDeletedUserFromSecondLevelOrQueryCache() {
+        // Given
+        userRepository.findByEmail("cache.user@example.com");
+        userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1");
+
+        // When
+        Optional<UserDto> previous = userRepository.deleteUserById(savedUser.getId());
+
+        // Then
+        assertThat(previous).map(UserDto::getId).contains(savedUser.getId());
+        assertThat(userRepository.deleteUserById(savedUser.getId())).isEmpty();
+        assertThat(userRepository.findByEmail("cache.user@example.com")).isEmpty();
+        assertThat(userRepository.findById(savedUser.getId())).isEmpty();
+        assertThat(userRepository.findByProviderAndProviderId(AuthProvider.GOOGLE, "google-cache-1")).isEmpty();
+    }
+}
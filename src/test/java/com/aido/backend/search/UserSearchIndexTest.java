@@ -0,0 +1,168 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new UserSearchIndex();
+        searchIndex.rebuild(List.of(
+                new UserDto(3L, "Bob Lee", "bob@example.com"),
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "김민준", "minjun.kim@example.kr")).iterator());
+    }
+
+    @Test
+    @DisplayName("Should be ready after rebuild")
+    void shouldBeReadyAfterRebuild() {
+        assertThat(new UserSearchIndex().isReady()).isFalse();
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should match substrings of name or email case-insensitively in ID order")
+    void shouldMatchSubstringsOfNameOrEmailCaseInsensitivelyInIdOrder() {
+        assertThat(ids(searchIndex.search("EXAMPLE.COM"))).containsExactly(1L, 3L);
+        assertThat(ids(searchIndex.search("ohn d"))).containsExactly(1L);
+        assertThat(ids(searchIndex.search("민준"))).containsExactly(2L);
+        assertThat(ids(searchIndex.search("M"))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(searchIndex.search(""))).containsExactly(1L, 2L, 3L);
+        assertThat(searchIndex.search("nobody")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not match when trigrams are split across name and email")
+    void shouldNotMatchWhenTrigramsAreSplitAcrossNameAndEmail() {
+        // "bob" 은 name/email 모두에 있지만 "bob lee@" 는 어느 필드에도 없음
+        assertThat(searchIndex.search("bob lee@")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply create, update and delete events incrementally")
+    void shouldApplyCreateUpdateAndDeleteEventsIncrementally() {
+        // When
+        searchIndex.onUserChanged(UserChangedEvent.created(new UserDto(4L, "Johnny Cash", "cash@example.com")));
+        searchIndex.onUserChanged(UserChangedEvent.updated(null, new UserDto(1L, "Jane Doe", "jane.doe@example.com")));
+        searchIndex.onUserChanged(UserChangedEvent.deleted(3L, null));
+
+        // Then
+        assertThat(ids(searchIndex.search("john"))).containsExactly(4L);
+        assertThat(ids(searchIndex.search("jane"))).containsExactly(1L);
+        assertThat(searchIndex.search("bob")).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop postings of deleted users instead of growing")
+    void shouldDropPostingsOfDeletedUsersInsteadOfGrowing() {
+        // When
+        for (long id = 100; id < 1100; id++) {
+            searchIndex.onUserChanged(UserChangedEvent.created(new UserDto(id, "Temp " + id, "temp" + id + "@example.com")));
+            searchIndex.onUserChanged(UserChangedEvent.deleted(id, null));
+        }
+        searchIndex.onUserChanged(UserChangedEvent.deleted(3L, null));
+        searchIndex.onUserChanged(UserChangedEvent.created(new UserDto(5L, "Bobby Lee", "bobby@example.com")));
+
+        // Then
+        UserSearchIndex fresh = new UserSearchIndex();
+        fresh.rebuild(List.of(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "김민준", "minjun.kim@example.kr"),
+                new UserDto(5L, "Bobby Lee", "bobby@example.com")).iterator());
+        assertThat(searchIndex.postingListCount()).isEqualTo(fresh.postingListCount());
+        assertThat(searchIndex.size()).isEqualTo(3);
+        assertThat(searchIndex.search("temp")).isEmpty();
+        assertThat(ids(searchIndex.search("lee"))).containsExactly(5L);
+        assertThat(ids(searchIndex.search("o"))).containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should return matches after the cursor in ID order up to the limit")
+    void shouldReturnMatchesAfterCursorInIdOrderUpToLimit() {
+        // Given - id 순서와 다른 순서로 생성/수정
+        UserSearchIndex index = new UserSearchIndex();
+        index.rebuild(List.<UserDto>of().iterator());
+        for (long id : new long[] {9, 4, 7, 1, 12, 3}) {
+            index.onUserChanged(UserChangedEvent.created(new UserDto(id, "Kim " + id, "user" + id + "@example.com")));
+        }
+        index.onUserChanged(UserChangedEvent.updated(null, new UserDto(4L, "Lee 4", "user4@example.com")));
+
+        // When & Then
+        assertThat(ids(index.search("kim", 0L, 2))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("kim", 3L, 2))).containsExactly(7L, 9L);
+        assertThat(ids(index.search("kim", 9L, 2))).containsExactly(12L);
+        assertThat(ids(index.search("k", 1L, 3))).containsExactly(3L, 7L, 9L);
+        assertThat(index.search("kim", 12L, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match accents insensitively without splitting Hangul syllables")
+    void shouldMatchAccentsInsensitivelyWithoutSplittingHangulSyllables() {
+        // Given
+        searchIndex.onUserChanged(UserChangedEvent.created(new UserDto(4L, "José Müller", "jose@example.es")));
+
+        // When & Then
+        assertThat(ids(searchIndex.search("jose m"))).containsExactly(4L);
+        assertThat(ids(searchIndex.search("MULLER"))).containsExactly(4L);
+        assertThat(ids(searchIndex.search("Jos\u00e9"))).containsExactly(4L);
+        assertThat(ids(searchIndex.search("민준"))).containsExactly(2L);
+        assertThat(searchIndex.search("김미")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should agree with substring scan on random data")
+    void shouldAgreeWithSubstringScanOnRandomData() {
+        // Given
+        Random random = new Random(42);
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            users.add(new UserDto(id, randomWord(random, 8), randomWord(random, 6) + "@ex.com"));
+        }
+        UserSearchIndex index = new UserSearchIndex();
+        index.rebuild(users.iterator());
+
+        // When & Then
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(7));
+            List<Long> expected = users.stream()
+                    .filter(u -> u.getName().toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT))
+                            || u.getEmail().toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT)))
+                    .map(UserDto::getId)
+                    .toList();
+            assertThat(ids(index.search(keyword))).as(keyword).isEqualTo(expected);
+            // 커서 이후 한 페이지
+            long afterId = random.nextInt(500);
+            int limit = 1 + random.nextInt(10);
+            assertThat(ids(index.search(keyword, afterId, limit))).as(keyword + " after " + afterId)
+                    .isEqualTo(expected.stream().filter(id -> id > afterId).limit(limit).toList());
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(4));
+            sb.append(random.nextBoolean() ? c : Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).toList();
+    }
+}
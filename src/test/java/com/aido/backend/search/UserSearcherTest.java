@@ -0,0 +1,130 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.enums.UserSearchMode;
+import com.aido.backend.repository.UserRepository;
+import com.aido.backend.util.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearcherTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSearchIndex searchIndex;
+
+    @Test
+    @DisplayName("Should page LIKE results by ID")
+    void shouldPageLikeResultsById() {
+        // Given
+        UserSearcher searcher = new UserSearcher(userRepository, searchIndex, UserSearchMode.LIKE);
+        when(userRepository.findByKeywordAfter("kim", 5L, Limit.of(3))).thenReturn(List.of(
+                new UserDto(6L, "Kim A", "a@example.com"),
+                new UserDto(7L, "Kim B", "b@example.com"),
+                new UserDto(9L, "Kim C", "c@example.com")));
+
+        // When
+        CursorPage<UserDto> page = searcher.search("kim", CursorCodec.encodeId(5L), 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(UserDto::getId).containsExactly(6L, 7L);
+        assertThat(CursorCodec.decodeId(page.getNext())).isEqualTo(7L);
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("Should page index results after cursor without touching the database")
+    void shouldPageIndexResultsAfterCursorWithoutTouchingTheDatabase() {
+        // Given
+        UserSearcher searcher = new UserSearcher(userRepository, searchIndex, UserSearchMode.INDEX);
+        List<UserDto> matches = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            matches.add(new UserDto(id, "Kim " + id, id + "@example.com"));
+        }
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("kim", 0L, 3)).thenReturn(matches.subList(0, 3));
+        when(searchIndex.search("kim", 4L, 3)).thenReturn(matches.subList(4, 5));
+
+        // When
+        CursorPage<UserDto> first = searcher.search("kim", null, 2);
+        CursorPage<UserDto> last = searcher.search("kim", CursorCodec.encodeId(4L), 2);
+
+        // Then
+        assertThat(first.getItems()).extracting(UserDto::getId).containsExactly(1L, 2L);
+        assertThat(CursorCodec.decodeId(first.getNext())).isEqualTo(2L);
+        assertThat(last.getItems()).extracting(UserDto::getId).containsExactly(5L);
+        assertThat(last.getNext()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to LIKE while index is loading")
+    void shouldFallBackToLikeWhileIndexIsLoading() {
+        // Given
+        UserSearcher searcher = new UserSearcher(userRepository, searchIndex, UserSearchMode.INDEX);
+        when(searchIndex.isReady()).thenReturn(false);
+        when(userRepository.findByKeywordAfter("kim", 0L, Limit.of(21))).thenReturn(List.of());
+
+        // When
+        CursorPage<UserDto> page = searcher.search("kim", null, 20);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        verify(searchIndex, never()).search(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should page FULLTEXT results by offset in relevance order")
+    void shouldPageFulltextResultsByOffsetInRelevanceOrder() {
+        // Given
+        UserSearcher searcher = new UserSearcher(userRepository, searchIndex, UserSearchMode.FULLTEXT);
+        UserDto best = new UserDto(9L, "김민준", "minjun@example.kr");
+        UserDto second = new UserDto(3L, "김민준호", "minjunho@example.kr");
+        UserDto third = new UserDto(5L, "박민준", "park@example.kr");
+        when(userRepository.searchFulltext("\"민준\"", 3, 0L)).thenReturn(List.of(best, second, third));
+
+        // When
+        CursorPage<UserDto> page = searcher.search("민준", null, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(UserDto::getId).containsExactly(9L, 3L);
+        assertThat(CursorCodec.decodeOffset(page.getNext())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor from a different mode")
+    void shouldRejectCursorFromADifferentMode() {
+        // Given
+        UserSearcher searcher = new UserSearcher(userRepository, searchIndex, UserSearchMode.FULLTEXT);
+
+        // When & Then
+        assertThatThrownBy(() -> searcher.search("kim", CursorCodec.encodeId(5L), 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(userRepository, never()).searchFulltext(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should strip boolean operators from FULLTEXT phrase")
+    void shouldStripBooleanOperatorsFromFulltextPhrase() {
+        assertThat(UserSearcher.toBooleanPhrase("john.doe@example.com")).isEqualTo("\"john.doe example.com\"");
+        assertThat(UserSearcher.toBooleanPhrase("+kim -\"lee\"*")).isEqualTo("\"kim lee\"");
+        assertThat(UserSearcher.toBooleanPhrase("  ()  ")).isNull();
+    }
+}
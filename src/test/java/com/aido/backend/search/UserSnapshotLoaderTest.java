@@ -0,0 +1,110 @@
+package com.aido.backend.search;
+
+import com.aido.backend.cache.UserEmailFilter;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.enums.UserSearchMode;
+import com.aido.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSnapshotLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserSearchIndex searchIndex;
+    private UserEmailFilter emailFilter;
+    private UserSnapshotLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new UserSearchIndex();
+        emailFilter = new UserEmailFilter(new SimpleMeterRegistry(), 1000, 0.01, Duration.ofSeconds(30), 1000);
+        loader = new UserSnapshotLoader(userRepository, searchIndex, new UserSuggestTrie(), emailFilter, transactionManager);
+        ReflectionTestUtils.setField(loader, "searchMode", UserSearchMode.INDEX);
+        ReflectionTestUtils.setField(loader, "catchUpBatchSize", 2);
+        ReflectionTestUtils.setField(loader, "catchUpOverlap", Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should apply email changes made on other nodes and rows committed out of id order")
+    void shouldApplyEmailChangesAndOutOfOrderRows() {
+        // Given
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        when(userRepository.streamAll()).thenReturn(Stream.of(new UserDto(1L, "John Doe", "john.doe@example.com")));
+        loader.load();
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(userRepository.findChangedAfter(any(LocalDateTime.class), anyLong(), eq(Limit.of(2)))).thenReturn(
+                List.of(new UserDto(3L, "Late Chunk", "late@example.com", changedAt),
+                        new UserDto(1L, "John Doe", "john.new@example.com", changedAt)),
+                List.of(new UserDto(2L, "Earlier Id", "earlier@example.com", changedAt.plusNanos(1000))));
+
+        // When
+        loader.catchUp();
+
+        // Then
+        assertThat(emailFilter.isDefinitelyAbsent("john.new@example.com")).isFalse();
+        assertThat(emailFilter.isDefinitelyAbsent("earlier@example.com")).isFalse();
+        assertThat(searchIndex.search("john.new")).extracting(UserDto::getId).containsExactly(1L);
+        assertThat(searchIndex.size()).isEqualTo(3);
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> afterId = ArgumentCaptor.forClass(Long.class);
+        verify(userRepository, times(2)).findChangedAfter(since.capture(), afterId.capture(), eq(Limit.of(2)));
+        // 첫 조회는 스냅샷 시작 시점보다 overlap만큼 앞에서, 다음 조회는 마지막 행의 (updatedAt, id) 이후
+        assertThat(since.getAllValues().get(0)).isBefore(beforeLoad.minusSeconds(59));
+        assertThat(since.getAllValues().get(1)).isEqualTo(changedAt);
+        assertThat(afterId.getAllValues()).containsExactly(0L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reread the overlap window from the latest applied update on the next catch-up")
+    void shouldRereadOverlapWindowFromLatestAppliedUpdate() {
+        // Given
+        when(userRepository.streamAll()).thenReturn(Stream.of(new UserDto(1L, "John Doe", "john.doe@example.com")));
+        loader.load();
+        LocalDateTime changedAt = LocalDateTime.now().plusSeconds(5);
+        when(userRepository.findChangedAfter(any(LocalDateTime.class), anyLong(), eq(Limit.of(2))))
+                .thenReturn(List.of(new UserDto(2L, "Jane Smith", "jane@example.com", changedAt)), List.of());
+        loader.catchUp();
+
+        // When
+        loader.catchUp();
+
+        // Then
+        verify(userRepository).findChangedAfter(changedAt.minusSeconds(60), 0L, Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Should not catch up before the first snapshot")
+    void shouldNotCatchUpBeforeFirstSnapshot() {
+        // When
+        loader.catchUp();
+
+        // Then
+        verify(userRepository, never()).findChangedAfter(any(), anyLong(), any());
+    }
+}
@@ -0,0 +1,123 @@
+package com.aido.backend.search;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSuggestTrieTest {
+
+    private UserSuggestTrie suggestTrie;
+
+    @BeforeEach
+    void setUp() {
+        suggestTrie = new UserSuggestTrie();
+        suggestTrie.rebuild(List.of(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "Johnny Cash", "cash@example.com"),
+                new UserDto(3L, "Jane Doe", "jane@example.com"),
+                new UserDto(4L, "김민준", "minjun.kim@example.kr")).iterator());
+    }
+
+    @Test
+    @DisplayName("Should return empty result before rebuild")
+    void shouldReturnEmptyResultBeforeRebuild() {
+        UserSuggestTrie empty = new UserSuggestTrie();
+
+        assertThat(empty.isReady()).isFalse();
+        assertThat(empty.suggest("jo", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match prefix of name, name words and email case-insensitively")
+    void shouldMatchPrefixOfNameNameWordsAndEmailCaseInsensitively() {
+        assertThat(ids(suggestTrie.suggest("JOHN", 10))).containsExactly(1L, 2L);
+        assertThat(ids(suggestTrie.suggest("doe", 10))).containsExactly(1L, 3L);
+        assertThat(ids(suggestTrie.suggest("cash@", 10))).containsExactly(2L);
+        assertThat(ids(suggestTrie.suggest("김민", 10))).containsExactly(4L);
+        assertThat(ids(suggestTrie.suggest("minjun.", 10))).containsExactly(4L);
+        assertThat(suggestTrie.suggest("ohn", 10)).isEmpty();
+        assertThat(suggestTrie.suggest("johnx", 10)).isEmpty();
+        assertThat(suggestTrie.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should order suggestions lexicographically and honour limit")
+    void shouldOrderSuggestionsLexicographicallyAndHonourLimit() {
+        // "j" 아래: jane(3) < jane doe(3) < john(1) < john doe(1) < johnny(2)
+        assertThat(ids(suggestTrie.suggest("j", 10))).containsExactly(3L, 1L, 2L);
+        assertThat(ids(suggestTrie.suggest("j", 2))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should apply create, update and delete events incrementally")
+    void shouldApplyCreateUpdateAndDeleteEventsIncrementally() {
+        // When
+        suggestTrie.onUserChanged(UserChangedEvent.created(new UserDto(5L, "Joan Baez", "joan@example.com")));
+        suggestTrie.onUserChanged(UserChangedEvent.updated(null, new UserDto(1L, "Jack Doe", "jack@example.com")));
+        suggestTrie.onUserChanged(UserChangedEvent.deleted(2L, null));
+
+        // Then
+        assertThat(ids(suggestTrie.suggest("jo", 10))).containsExactly(5L);
+        assertThat(ids(suggestTrie.suggest("jack", 10))).containsExactly(1L);
+        assertThat(suggestTrie.suggest("cash", 10)).isEmpty();
+        assertThat(suggestTrie.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should agree with prefix scan after random inserts and deletes")
+    void shouldAgreeWithPrefixScanAfterRandomInsertsAndDeletes() {
+        // Given
+        Random random = new Random(7);
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            users.add(new UserDto(id, randomWord(random, 6) + " " + randomWord(random, 4),
+                    randomWord(random, 5) + "@ex.com"));
+        }
+        UserSuggestTrie trie = new UserSuggestTrie();
+        trie.rebuild(users.iterator());
+        // 절반 삭제로 분할/병합 경로 검증
+        for (long id = 1; id <= 300; id += 2) {
+            trie.onUserChanged(UserChangedEvent.deleted(id, null));
+        }
+        List<UserDto> remaining = users.stream().filter(user -> user.getId() % 2 == 0).toList();
+
+        // When & Then
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomWord(random, 1 + random.nextInt(3));
+            Set<Long> expected = new TreeSet<>();
+            for (UserDto user : remaining) {
+                for (String term : UserSuggestTrie.termsOf(user)) {
+                    if (term.startsWith(prefix.toLowerCase(Locale.ROOT))) {
+                        expected.add(user.getId());
+                    }
+                }
+            }
+            assertThat(new TreeSet<>(ids(trie.suggest(prefix, Integer.MAX_VALUE))))
+                    .as("prefix %s", prefix)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    private static List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).toList();
+    }
+}
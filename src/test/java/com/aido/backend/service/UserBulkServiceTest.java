@@ -0,0 +1,158 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserBulkCreateResponse;
+import com.aido.backend.dto.UserBulkRowResult;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.entity.User;
+import com.aido.backend.event.UserChangedEvent;
+import com.aido.backend.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        userBulkService = new UserBulkService(userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows in one batch and report per-row outcomes")
+    void shouldInsertValidRowsInOneBatchAndReportPerRowOutcomes() {
+        // Given
+        List<UserDto> rows = List.of(
+                new UserDto(null, "John Doe", "john@example.com"),
+                new UserDto(null, "", "not-an-email"),
+                new UserDto(null, "John Again", "JOHN@example.com"),
+                new UserDto(null, "Existing", "taken@example.com"),
+                new UserDto(null, "Jane Doe", "jane@example.com"));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("taken@example.com"));
+        when(userRepository.findDtosByEmailIn(List.of("john@example.com", "jane@example.com"))).thenReturn(List.of(
+                new UserDto(10L, "John Doe", "john@example.com"),
+                new UserDto(11L, "Jane Doe", "jane@example.com")));
+
+        // When
+        UserBulkCreateResponse response = userBulkService.createUsers(rows);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(UserBulkRowResult::getStatus).containsExactly(
+                UserBulkRowResult.Status.CREATED,
+                UserBulkRowResult.Status.INVALID,
+                UserBulkRowResult.Status.DUPLICATE,
+                UserBulkRowResult.Status.DUPLICATE,
+                UserBulkRowResult.Status.CREATED);
+        assertThat(response.getResults()).extracting(UserBulkRowResult::getId).containsExactly(10L, null, null, null, 11L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(1)).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(User::getEmail).containsExactly("john@example.com", "jane@example.com");
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+        verify(eventPublisher, times(2)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should process large input in chunked transactions")
+    void shouldProcessLargeInputInChunkedTransactions() {
+        // Given
+        List<UserDto> rows = new ArrayList<>();
+        for (int i = 0; i < UserBulkService.CHUNK_SIZE + 1; i++) {
+            rows.add(new UserDto(null, "User " + i, "user" + i + "@example.com"));
+        }
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.findDtosByEmailIn(anyList())).thenAnswer(invocation -> {
+            List<String> emails = invocation.getArgument(0);
+            return emails.stream().map(email -> new UserDto((long) email.hashCode(), "User", email)).toList();
+        });
+
+        // When
+        UserBulkCreateResponse response = userBulkService.createUsers(rows);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(rows.size());
+        assertThat(response.getResults().get(UserBulkService.CHUNK_SIZE).getIndex()).isEqualTo(UserBulkService.CHUNK_SIZE);
+        verify(userRepository, times(2)).insertAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should retry row by row and reject only the conflicting row when insert violates unique constraint")
+    void shouldRetryRowByRowWhenInsertViolatesUniqueConstraint() {
+        // Given - 조회 뒤 다른 요청이 taken@example.com을 먼저 생성
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> user.getEmail().equals("taken@example.com"))) {
+                throw new DuplicateKeyException("Duplicate entry 'taken@example.com'");
+            }
+            return null;
+        }).when(userRepository).insertAll(anyList());
+        when(userRepository.findDtosByEmailIn(List.of("john@example.com")))
+                .thenReturn(List.of(new UserDto(10L, "John Doe", "john@example.com")));
+
+        // When
+        UserBulkCreateResponse response = userBulkService.createUsers(List.of(
+                new UserDto(null, "John Doe", "john@example.com"),
+                new UserDto(null, "Taken User", "taken@example.com")));
+
+        // Then
+        assertThat(response.getResults()).extracting(UserBulkRowResult::getStatus)
+                .containsExactly(UserBulkRowResult.Status.CREATED, UserBulkRowResult.Status.DUPLICATE);
+        assertThat(response.getResults().get(0).getId()).isEqualTo(10L);
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should mark row as failed when it violates a non-unique constraint")
+    void shouldMarkRowAsFailedWhenItViolatesNonUniqueConstraint() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("Data too long")).when(userRepository).insertAll(anyList());
+
+        // When
+        UserBulkCreateResponse response = userBulkService.createUsers(List.of(
+                new UserDto(null, "John Doe", "john@example.com")));
+
+        // Then
+        assertThat(response.getResults()).extracting(UserBulkRowResult::getStatus)
+                .containsExactly(UserBulkRowResult.Status.FAILED);
+        verify(transactionManager, times(2)).rollback(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportService(userRepository, new ObjectMapper(), new Jackson2ObjectMapperBuilder());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        when(userRepository.streamAll()).thenReturn(Stream.of(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "Jane Smith", "jane.smith@example.com")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.export(out, UserExportService.Format.NDJSON, UserFieldSet.ALL);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"name\":\"John Doe\",\"email\":\"john.doe@example.com\"}");
+        assertThat(lines[1]).isEqualTo("{\"id\":2,\"name\":\"Jane Smith\",\"email\":\"jane.smith@example.com\"}");
+        assertThat(lines[2]).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write users as a CBOR value sequence")
+    void shouldWriteUsersAsCborValueSequence() throws Exception {
+        // Given
+        when(userRepository.streamAll()).thenReturn(Stream.of(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "Jane Smith", "jane.smith@example.com")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.export(out, UserExportService.Format.CBOR, UserFieldSet.ALL);
+
+        // Then
+        List<UserDto> users = new CBORMapper().readerFor(UserDto.class)
+                .<UserDto>readValues(out.toByteArray()).readAll();
+        assertThat(count).isEqualTo(2);
+        assertThat(users).extracting(UserDto::getEmail)
+                .containsExactly("john.doe@example.com", "jane.smith@example.com");
+    }
+
+    @Test
+    @DisplayName("Should write nothing when there are no users")
+    void shouldWriteNothingWhenThereAreNoUsers() throws Exception {
+        // Given
+        when(userRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.export(out, UserExportService.Format.NDJSON, UserFieldSet.ALL);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+    }
+}
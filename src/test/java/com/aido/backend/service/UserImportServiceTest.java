@@ -0,0 +1,139 @@
+package com.aido.backend.service;
+
+import com.aido.backend.dto.UserBulkRowResult;
+import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserImportJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserBulkService userBulkService;
+
+    @TempDir
+    Path tempDir;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userBulkService, new SyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("Should stream CSV in chunks and report duplicates without failing")
+    void shouldStreamCsvInChunksAndReportDuplicatesWithoutFailing() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("\uFEFFEmail,Name\n");
+        int rows = UserBulkService.CHUNK_SIZE + 2;
+        for (int i = 0; i < rows; i++) {
+            csv.append("user").append(i).append("@example.com,User ").append(i).append('\n');
+        }
+        Path file = write(csv.toString());
+        when(userBulkService.createChunk(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<UserDto> chunk = invocation.getArgument(0);
+            int startIndex = invocation.getArgument(1);
+            List<UserBulkRowResult> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(startIndex + i == 1
+                        ? UserBulkRowResult.rejected(1, chunk.get(i).getEmail(), UserBulkRowResult.Status.DUPLICATE, "Email already exists")
+                        : UserBulkRowResult.created(startIndex + i, new UserDto((long) startIndex + i, chunk.get(i).getName(), chunk.get(i).getEmail())));
+            }
+            return results;
+        });
+
+        // When
+        UserImportJob job = userImportService.startImport(file, "users.csv");
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(rows);
+        assertThat(job.getCreated()).isEqualTo(rows - 1);
+        assertThat(job.getDuplicates()).isEqualTo(1);
+        assertThat(job.getIssues()).extracting(UserBulkRowResult::getEmail).containsExactly("user1@example.com");
+        assertThat(userImportService.getJob(job.getId())).contains(job);
+        assertThat(file).doesNotExist();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserDto>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(userBulkService).createChunk(chunks.capture(), eq(0));
+        assertThat(chunks.getValue()).hasSize(UserBulkService.CHUNK_SIZE);
+        verify(userBulkService).createChunk(anyList(), eq(UserBulkService.CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should fail job when required columns are missing")
+    void shouldFailJobWhenRequiredColumnsAreMissing() throws IOException {
+        // Given
+        Path file = write("name,phone\nJohn,010\n");
+
+        // When
+        UserImportJob job = userImportService.startImport(file, "users.csv");
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.FAILED);
+        assertThat(job.getError()).contains("name and email");
+        verifyNoInteractions(userBulkService);
+    }
+
+    @Test
+    @DisplayName("Should stop before next chunk when cancelled")
+    void shouldStopBeforeNextChunkWhenCancelled() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < UserBulkService.CHUNK_SIZE * 3; i++) {
+            csv.append("User,user").append(i).append("@example.com\n");
+        }
+        List<Runnable> tasks = new ArrayList<>();
+        UserImportService service = new UserImportService(userBulkService, tasks::add);
+        UserImportJob job = service.startImport(write(csv.toString()), "users.csv");
+        // 첫 청크를 쓰는 도중 취소 요청
+        when(userBulkService.createChunk(anyList(), anyInt())).thenAnswer(invocation -> {
+            service.cancel(job.getId());
+            return List.of();
+        });
+
+        // When
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.QUEUED);
+        tasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.CANCELLED);
+        verify(userBulkService, times(1)).createChunk(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown job")
+    void shouldReturnEmptyForUnknownJob() {
+        assertThat(userImportService.getJob("missing")).isEmpty();
+        assertThat(userImportService.cancel("missing")).isEmpty();
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("users-" + System.nanoTime() + ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -1,26 +1,58 @@
 package com.aido.backend.service;
 
+import com.aido.backend.cache.UserBytesCache;
+import com.aido.backend.cache.UserCache;
+import com.aido.backend.cache.UserEmailFilter;
+import com.aido.backend.datasource.ReadYourWritesContext;
+import com.aido.backend.dto.CursorPage;
+import com.aido.backend.dto.UserBatchResponse;
 import com.aido.backend.dto.UserDto;
+import com.aido.backend.dto.UserFieldSet;
+import com.aido.backend.dto.UserPage;
+import com.aido.backend.dto.UserVersion;
 import com.aido.backend.entity.User;
 import com.aido.backend.enums.AuthProvider;
+import com.aido.backend.event.UserChangedEvent;
 import com.aido.backend.repository.UserRepository;
+import com.aido.backend.search.UserSearcher;
+import com.aido.backend.search.UserSuggestTrie;
+import com.aido.backend.util.CursorCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +61,31 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserCache userCache = new UserCache(new ConcurrentMapCacheManager());
+
+    @Spy
+    private UserBytesCache userBytesCache = new UserBytesCache(new ConcurrentMapCacheManager(), new ObjectMapper(), new Jackson2ObjectMapperBuilder());
+
+    @Mock
+    private UserSearcher userSearcher;
+
+    @Mock
+    private UserSuggestTrie suggestTrie;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private UserEmailFilter emailFilter =
+            new UserEmailFilter(new SimpleMeterRegistry(), 1000, 0.01, Duration.ofSeconds(30), 1000);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -47,11 +104,9 @@ class UserServiceTest {
     @DisplayName("Should get all users")
     void shouldGetAllUsers() {
         // Given
-        User user2 = new User("Jane Smith", "jane.smith@example.com");
-        user2.setId(2L);
-        List<User> users = Arrays.asList(testUser, user2);
+        List<UserDto> users = Arrays.asList(testUserDto, new UserDto(2L, "Jane Smith", "jane.smith@example.com"));
         
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllDtos()).thenReturn(users);
 
         // When
         List<UserDto> result = userService.getAllUsers();
@@ -60,14 +115,166 @@ class UserServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getName()).isEqualTo("John Doe");
         assertThat(result.get(1).getName()).isEqualTo("Jane Smith");
-        verify(userRepository).findAll();
+        verify(userRepository).findAllDtos();
+    }
+
+    @Test
+    @DisplayName("Should return first page with next cursor when more rows exist")
+    void shouldReturnFirstPageWithNextCursorWhenMoreRowsExist() {
+        // Given
+        List<UserDto> rows = Arrays.asList(
+                new UserDto(1L, "John Doe", "john.doe@example.com"),
+                new UserDto(2L, "Jane Smith", "jane.smith@example.com"),
+                new UserDto(3L, "Bob Lee", "bob.lee@example.com"));
+        when(userRepository.findPageAfter(0L, Limit.of(3))).thenReturn(rows);
+
+        // When
+        CursorPage<UserDto> page = userService.getUsers(null, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(UserDto::getId).containsExactly(1L, 2L);
+        assertThat(CursorCodec.decodeId(page.getNext())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should continue after cursor and end without next cursor")
+    void shouldContinueAfterCursorAndEndWithoutNextCursor() {
+        // Given
+        List<UserDto> rows = Arrays.asList(new UserDto(3L, "Bob Lee", "bob.lee@example.com"));
+        when(userRepository.findPageAfter(2L, Limit.of(3))).thenReturn(rows);
+
+        // When
+        CursorPage<UserDto> page = userService.getUsers(CursorCodec.encodeId(2L), 2);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should use projected query when fields are selected")
+    void shouldUseProjectedQueryWhenFieldsAreSelected() {
+        // Given
+        UserFieldSet fields = UserFieldSet.valueOf("id,name");
+        List<UserDto> rows = Arrays.asList(
+                new UserDto(1L, "John Doe", null).withFields(fields),
+                new UserDto(2L, "Jane Smith", null).withFields(fields));
+        when(userRepository.findProjectedPageAfter(0L, 2, fields)).thenReturn(rows);
+
+        // When
+        CursorPage<UserDto> page = userService.getUsers(null, 1, fields);
+
+        // Then
+        assertThat(page.getItems()).extracting(UserDto::getId).containsExactly(1L);
+        assertThat(page.getItems().get(0).getFieldSet()).isSameAs(fields);
+        assertThat(CursorCodec.decodeId(page.getNext())).isEqualTo(1L);
+        verify(userRepository, never()).findPageAfter(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should serve encoded user from bytes cache until user changes")
+    void shouldServeEncodedUserFromBytesCacheUntilUserChanges() {
+        // Given
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(testUserDto));
+
+        // When
+        byte[] first = userService.getUserBytes(userService.getUserById(1L).orElseThrow(), UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        byte[] second = userService.getUserBytes(userService.getUserById(1L).orElseThrow(), UserBytesCache.Format.JSON, UserFieldSet.ALL);
+        userBytesCache.onUserChanged(UserChangedEvent.updated(testUserDto, new UserDto(1L, "John Updated", "john.doe@example.com")));
+        byte[] third = userService.getUserBytes(userService.getUserById(1L).orElseThrow(), UserBytesCache.Format.JSON, UserFieldSet.ALL);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first)).contains("John Doe");
+        assertThat(third).isNotSameAs(first);
+        verify(userRepository, times(1)).findDtoById(1L);
+    }
+
+    @Test
+    @DisplayName("Should derive user version from cached updatedAt without querying")
+    void shouldDeriveUserVersionFromCachedUpdatedAtWithoutQuerying() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(new UserDto(1L, "John Doe", "john.doe@example.com", updatedAt)));
+
+        // When
+        userService.getUserById(1L);
+        UserVersion version = userService.getUserVersion(userService.getUserById(1L).orElseThrow()).orElseThrow();
+
+        // Then
+        assertThat(version.getLastModified())
+                .isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        verify(userRepository, times(1)).findDtoById(1L);
+        verify(userRepository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should query version when cached user has no updatedAt")
+    void shouldQueryVersionWhenCachedUserHasNoUpdatedAt() {
+        // Given
+        UserVersion stored = new UserVersion(1L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(userRepository.findVersionById(1L)).thenReturn(Optional.of(stored));
+
+        // When
+        Optional<UserVersion> version = userService.getUserVersion(testUserDto);
+
+        // Then
+        assertThat(version).contains(stored);
+    }
+
+    @Test
+    @DisplayName("Should derive page ETag from the ids and versions of the rows it returns")
+    void shouldDerivePageEtagFromReturnedRows() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(userRepository.findPageAfter(0L, Limit.of(3))).thenReturn(
+                List.of(new UserDto(1L, "John Doe", "john.doe@example.com", updatedAt),
+                        new UserDto(2L, "Jane Smith", "jane.smith@example.com", updatedAt.plusHours(1))),
+                List.of(new UserDto(1L, "John Doe", "john.doe@example.com", updatedAt),
+                        new UserDto(2L, "Jane Smith", "jane.smith@example.com", updatedAt.plusHours(2))),
+                List.of());
+
+        // When
+        UserPage first = userService.getUsersPage(null, 2, UserFieldSet.ALL);
+        UserPage second = userService.getUsersPage(null, 2, UserFieldSet.ALL);
+        UserPage empty = userService.getUsersPage(null, 2, UserFieldSet.ALL);
+
+        // Then
+        assertThat(first.getPage().getItems()).hasSize(2);
+        assertThat(first.getVersion().orElseThrow().getEtag()).startsWith("W/\"p-")
+                .isNotEqualTo(second.getVersion().orElseThrow().getEtag());
+        assertThat(second.getVersion().orElseThrow().getLastModified())
+                .isGreaterThan(first.getVersion().orElseThrow().getLastModified());
+        assertThat(empty.getVersion()).isEmpty();
+        verify(userRepository, times(3)).findPageAfter(0L, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("Should include the extra next-page row in the page ETag")
+    void shouldIncludeExtraNextPageRowInPageEtag() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        UserDto john = new UserDto(1L, "John Doe", "john.doe@example.com", updatedAt);
+        when(userRepository.findPageAfter(0L, Limit.of(2))).thenReturn(
+                List.of(john),
+                List.of(john, new UserDto(2L, "Jane Smith", "jane.smith@example.com", updatedAt)));
+
+        // When
+        UserPage last = userService.getUsersPage(null, 1, UserFieldSet.ALL);
+        UserPage withNext = userService.getUsersPage(null, 1, UserFieldSet.ALL);
+
+        // Then
+        assertThat(last.getPage().getNext()).isNull();
+        assertThat(withNext.getPage().getNext()).isNotNull();
+        assertThat(last.getVersion().orElseThrow().getEtag())
+                .isNotEqualTo(withNext.getVersion().orElseThrow().getEtag());
     }
 
     @Test
     @DisplayName("Should get user by ID when user exists")
     void shouldGetUserByIdWhenUserExists() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(testUserDto));
 
         // When
         Optional<UserDto> result = userService.getUserById(1L);
@@ -76,28 +283,70 @@ class UserServiceTest {
         assertThat(result).isPresent();
         assertThat(result.get().getName()).isEqualTo("John Doe");
         assertThat(result.get().getEmail()).isEqualTo("john.doe@example.com");
-        verify(userRepository).findById(1L);
+        verify(userRepository).findDtoById(1L);
+    }
+
+    @Test
+    @DisplayName("Should load cache misses in a read-write transaction so they are read from the primary")
+    void shouldLoadCacheMissesInReadWriteTransaction() {
+        // Given
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(testUserDto));
+        when(userRepository.findDtoByEmail("jane.smith@example.com"))
+                .thenReturn(Optional.of(new UserDto(2L, "Jane Smith", "jane.smith@example.com")));
+
+        // When
+        userService.getUserById(1L);
+        userService.getUserByEmail("jane.smith@example.com");
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).noneMatch(TransactionDefinition::isReadOnly);
+        assertThat(userCache.getById(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should coalesce cache-miss lookups except after a write in the same request")
+    void shouldCoalesceCacheMissLookupsExceptAfterWrite() {
+        // Given
+        when(userRepository.findDtoByEmail("john.doe@example.com")).thenReturn(Optional.of(testUserDto));
+
+        // When
+        userService.getUserByEmail("john.doe@example.com");
+        userCache.evict(1L);
+        ReadYourWritesContext.begin();
+        try {
+            ReadYourWritesContext.markWrite();
+            userService.getUserByEmail("john.doe@example.com");
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+
+        // Then
+        assertThat(meterRegistry.get("aido.user.lookup").tag("by", "email").tag("result", "loaded").counter().count())
+                .isEqualTo(1);
+        verify(userRepository, times(2)).findDtoByEmail("john.doe@example.com");
     }
 
     @Test
     @DisplayName("Should return empty when user not found by ID")
     void shouldReturnEmptyWhenUserNotFoundById() {
         // Given
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findDtoById(anyLong())).thenReturn(Optional.empty());
 
         // When
         Optional<UserDto> result = userService.getUserById(999L);
 
         // Then
         assertThat(result).isEmpty();
-        verify(userRepository).findById(999L);
+        verify(userRepository).findDtoById(999L);
     }
 
     @Test
     @DisplayName("Should get user by email when user exists")
     void shouldGetUserByEmailWhenUserExists() {
         // Given
-        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findDtoByEmail("john.doe@example.com")).thenReturn(Optional.of(testUserDto));
 
         // When
         Optional<UserDto> result = userService.getUserByEmail("john.doe@example.com");
@@ -105,23 +354,80 @@ class UserServiceTest {
         // Then
         assertThat(result).isPresent();
         assertThat(result.get().getName()).isEqualTo("John Doe");
-        verify(userRepository).findByEmail("john.doe@example.com");
+        verify(userRepository).findDtoByEmail("john.doe@example.com");
     }
 
     @Test
     @DisplayName("Should search users by keyword")
     void shouldSearchUsersByKeyword() {
         // Given
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findByKeyword("John")).thenReturn(users);
+        CursorPage<UserDto> page = new CursorPage<>(List.of(testUserDto), null);
+        when(userSearcher.search("John", null, 20)).thenReturn(page);
 
         // When
-        List<UserDto> result = userService.searchUsers("John");
+        CursorPage<UserDto> result = userService.searchUsers("John", null, 20);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getName()).isEqualTo("John Doe");
-        verify(userRepository).findByKeyword("John");
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getName()).isEqualTo("John Doe");
+        verify(userSearcher).search("John", null, 20);
+    }
+
+    @Test
+    @DisplayName("Should resolve batch from cache and one IN query with missing markers")
+    void shouldResolveBatchFromCacheAndOneInQueryWithMissingMarkers() {
+        // Given
+        UserDto jane = new UserDto(2L, "Jane Doe", "jane@example.com");
+        userCache.put(testUserDto);
+        when(userRepository.findDtosByIdIn(List.of(2L, 99L))).thenReturn(List.of(jane));
+        when(userRepository.findDtosByEmailIn(List.of("nobody@example.com"))).thenReturn(List.of());
+
+        // When
+        UserBatchResponse result = userService.getUsersBatch(
+                List.of(1L, 2L, 99L, 2L), List.of("JOHN.DOE@example.com", "nobody@example.com"));
+
+        // Then
+        assertThat(result.getById()).containsExactly(
+                entry(1L, testUserDto), entry(2L, jane), entry(99L, null));
+        assertThat(result.getMissingIds()).containsExactly(99L);
+        assertThat(result.getByEmail()).containsEntry("JOHN.DOE@example.com", testUserDto);
+        assertThat(result.getByEmail()).containsEntry("nobody@example.com", null);
+        assertThat(result.getMissingEmails()).containsExactly("nobody@example.com");
+        verify(userRepository, times(1)).findDtosByIdIn(anyCollection());
+        assertThat(userCache.getById(2L)).isEqualTo(jane);
+    }
+
+    @Test
+    @DisplayName("Should split large batch into chunked IN queries")
+    void shouldSplitLargeBatchIntoChunkedInQueries() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= UserService.BATCH_CHUNK_SIZE * 2 + 1; id++) {
+            ids.add(id);
+        }
+        when(userRepository.findDtosByIdIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        UserBatchResponse result = userService.getUsersBatch(ids, List.of());
+
+        // Then
+        verify(userRepository, times(3)).findDtosByIdIn(anyCollection());
+        verify(userRepository, never()).findDtosByEmailIn(anyCollection());
+        assertThat(result.getMissingIds()).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("Should suggest users from trie without touching repository")
+    void shouldSuggestUsersFromTrieWithoutTouchingRepository() {
+        // Given
+        when(suggestTrie.suggest("jo", 10)).thenReturn(List.of(testUserDto));
+
+        // When
+        List<UserDto> result = userService.suggestUsers("jo", 10);
+
+        // Then
+        assertThat(result).containsExactly(testUserDto);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -129,7 +435,6 @@ class UserServiceTest {
     void shouldCreateUserSuccessfully() {
         // Given
         UserDto newUserDto = new UserDto(null, "John Doe", "john.doe@example.com");
-        when(userRepository.existsByEmail("john.doe@example.com")).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
@@ -138,8 +443,8 @@ class UserServiceTest {
         // Then
         assertThat(result.getName()).isEqualTo("John Doe");
         assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
-        verify(userRepository).existsByEmail("john.doe@example.com");
         verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -147,15 +452,14 @@ class UserServiceTest {
     void shouldThrowExceptionWhenCreatingUserWithExistingEmail() {
         // Given
         UserDto newUserDto = new UserDto(null, "John Doe", "john.doe@example.com");
-        when(userRepository.existsByEmail("john.doe@example.com")).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
 
         // When & Then
         assertThatThrownBy(() -> userService.createUser(newUserDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Email already exists");
         
-        verify(userRepository).existsByEmail("john.doe@example.com");
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -163,22 +467,18 @@ class UserServiceTest {
     void shouldUpdateUserSuccessfully() {
         // Given
         UserDto updateUserDto = new UserDto(1L, "John Updated", "john.updated@example.com");
-        User existingUser = new User("John Doe", "john.doe@example.com");
-        existingUser.setId(1L);
-        
-        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByEmail("john.updated@example.com")).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(existingUser);
+        when(userRepository.updateProfile(eq(1L), eq("John Updated"), eq("john.updated@example.com"), any()))
+                .thenReturn(Optional.of(testUserDto));
 
         // When
         UserDto result = userService.updateUser(1L, updateUserDto);
 
         // Then
+        assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("John Updated");
         assertThat(result.getEmail()).isEqualTo("john.updated@example.com");
-        verify(userRepository).findById(1L);
-        verify(userRepository).existsByEmail("john.updated@example.com");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -186,15 +486,14 @@ class UserServiceTest {
     void shouldThrowExceptionWhenUpdatingNonExistingUser() {
         // Given
         UserDto updateUserDto = new UserDto(999L, "John Updated", "john.updated@example.com");
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.updateProfile(eq(999L), anyString(), anyString(), any())).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> userService.updateUser(999L, updateUserDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("User not found with id: 999");
         
-        verify(userRepository).findById(999L);
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -202,49 +501,125 @@ class UserServiceTest {
     void shouldThrowExceptionWhenUpdatingUserWithExistingEmail() {
         // Given
         UserDto updateUserDto = new UserDto(1L, "John Updated", "existing@example.com");
-        User existingUser = new User("John Doe", "john.doe@example.com");
-        existingUser.setId(1L);
-        
-        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByEmail("existing@example.com")).thenReturn(true);
+        when(userRepository.updateProfile(eq(1L), anyString(), eq("existing@example.com"), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
 
         // When & Then
         assertThatThrownBy(() -> userService.updateUser(1L, updateUserDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Email already exists");
         
-        verify(userRepository).findById(1L);
-        verify(userRepository).existsByEmail("existing@example.com");
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Should delete user successfully")
     void shouldDeleteUserSuccessfully() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.deleteUserById(1L)).thenReturn(Optional.of(testUserDto));
 
         // When
         userService.deleteUser(1L);
 
         // Then
-        verify(userRepository).existsById(1L);
-        verify(userRepository).deleteById(1L);
+        verify(userRepository).deleteUserById(1L);
+        verify(userRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existing user")
     void shouldThrowExceptionWhenDeletingNonExistingUser() {
         // Given
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userRepository.deleteUserById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> userService.deleteUser(999L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("User not found with id: 999");
         
-        verify(userRepository).existsById(999L);
-        verify(userRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by ID from cache")
+    void shouldServeRepeatedLookupsByIdFromCache() {
+        // Given
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(testUserDto));
+
+        // When
+        userService.getUserById(1L);
+        Optional<UserDto> result = userService.getUserById(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("John Doe");
+        verify(userRepository, times(1)).findDtoById(1L);
+    }
+
+    @Test
+    @DisplayName("Should serve lookup by email from cache after lookup by ID")
+    void shouldServeLookupByEmailFromCacheAfterLookupById() {
+        // Given
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(testUserDto));
+
+        // When
+        userService.getUserById(1L);
+        Optional<UserDto> result = userService.getUserByEmail("John.Doe@example.com");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(1L);
+        verify(userRepository, never()).findDtoByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users")
+    void shouldNotCacheMissingUsers() {
+        // Given
+        when(userRepository.findDtoById(999L)).thenReturn(Optional.empty());
+
+        // When
+        userService.getUserById(999L);
+        userService.getUserById(999L);
+
+        // Then
+        verify(userRepository, times(2)).findDtoById(999L);
+    }
+
+    @Test
+    @DisplayName("Should publish change event with previous state on update when user is not cached")
+    void shouldPublishChangeEventWithPreviousStateOnUpdateWhenUserIsNotCached() {
+        // Given
+        UserDto updateUserDto = new UserDto(1L, "John Updated", "john.updated@example.com");
+        when(userRepository.updateProfile(eq(1L), anyString(), anyString(), any())).thenReturn(Optional.of(testUserDto));
+
+        // When
+        userService.updateUser(1L, updateUserDto);
+
+        // Then
+        ArgumentCaptor<UserChangedEvent> captor = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        UserChangedEvent event = captor.getValue();
+        assertThat(event.getType()).isEqualTo(UserChangedEvent.Type.UPDATED);
+        assertThat(event.getPrevious().getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(event.getCurrent().getEmail()).isEqualTo("john.updated@example.com");
+    }
+
+    @Test
+    @DisplayName("Should publish change event with previous state on delete when user is not cached")
+    void shouldPublishChangeEventWithPreviousStateOnDeleteWhenUserIsNotCached() {
+        // Given
+        when(userRepository.deleteUserById(1L)).thenReturn(Optional.of(testUserDto));
+
+        // When
+        userService.deleteUser(1L);
+
+        // Then
+        ArgumentCaptor<UserChangedEvent> captor = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(UserChangedEvent.Type.DELETED);
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getPrevious().getEmail()).isEqualTo("john.doe@example.com");
     }
 
     @Test
@@ -255,7 +630,6 @@ class UserServiceTest {
         User oauthUser = new User("OAuth User", "oauth@example.com", AuthProvider.GOOGLE, "google123");
         oauthUser.setId(1L);
         
-        when(userRepository.existsByEmail("oauth@example.com")).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(oauthUser);
 
         // When
@@ -273,7 +647,7 @@ class UserServiceTest {
         // Given
         User localUser = new User("Local User", "local@example.com");
         localUser.setId(1L);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(localUser));
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(new UserDto(1L, localUser.getName(), localUser.getEmail())));
 
         // When
         Optional<UserDto> result = userService.getUserById(1L);
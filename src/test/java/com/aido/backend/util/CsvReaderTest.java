@@ -0,0 +1,40 @@
+package com.aido.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should read quoted fields, escaped quotes and mixed line endings")
+    void shouldReadQuotedFieldsEscapedQuotesAndMixedLineEndings() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader(
+                "name,email\r\n\"Doe, John\",john@example.com\n\"Say \"\"hi\"\"\",\"multi\nline\"\nlast,"));
+
+        // When & Then
+        assertThat(reader.next()).containsExactly("name", "email");
+        assertThat(reader.next()).containsExactly("Doe, John", "john@example.com");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("Say \"hi\"", "multi\nline");
+        assertThat(reader.next()).containsExactly("last", "");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail on unterminated quoted field")
+    void shouldFailOnUnterminatedQuotedField() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field"));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 1");
+    }
+}
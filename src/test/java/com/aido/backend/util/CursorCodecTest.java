@@ -0,0 +1,29 @@
+package com.aido.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip id through opaque cursor")
+    void shouldRoundTripIdThroughOpaqueCursor() {
+        String cursor = CursorCodec.encodeId(12345L);
+
+        assertThat(cursor).doesNotContain("12345");
+        assertThat(CursorCodec.decodeId(cursor)).isEqualTo(12345L);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> CursorCodec.decodeId("not-a-cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+        assertThatThrownBy(() -> CursorCodec.decodeId("Zm9v"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
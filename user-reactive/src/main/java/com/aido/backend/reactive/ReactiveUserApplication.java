@@ -0,0 +1,12 @@
+package com.aido.backend.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveUserApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveUserApplication.class, args);
+    }
+}
@@ -0,0 +1,132 @@
+package com.aido.backend.reactive.controller;
+
+import com.aido.backend.reactive.dto.CursorPage;
+import com.aido.backend.reactive.dto.UserDto;
+import com.aido.backend.reactive.repository.ReactiveUserRepository;
+import com.aido.backend.reactive.util.CursorCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+// 서블릿 UserController의 조회 API와 같은 경로/파라미터
+// - JSON 목록/검색은 같은 cursor 형식과 {items, next} 페이지 (잘못된 cursor/limit은 400)
+// - Accept: application/x-ndjson 이면 envelope 없이 cursor 이후 전체를 행 단위로 스트리밍 (limit 없음, 느린 클라이언트는 DB 읽기를 늦춤)
+// 서블릿 API와 다른 점
+// - 검색은 항상 DB LIKE 스캔 (서블릿 aido.user.search.mode=like 와 같은 결과) - 메모리 trigram 색인/FULLTEXT 모드 없음
+// - 단건 조회는 JSON만, ETag/304 및 fields 선택 없음
+@RestController
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Value("${aido.user.page.max-limit:100}")
+    private int maxPageLimit;
+
+    @Autowired
+    public ReactiveUserController(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<? extends ResponseEntity<?>> getUsers(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int limit,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (isNdjson(accept)) {
+            return stream(cursor, userRepository::findAllAfter);
+        }
+        return page(cursor, limit, userRepository::findPageAfter);
+    }
+
+    // 전체 목록 - 페이지 크기 제한 없이 NDJSON으로만 제공
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDto> exportUsers() {
+        return userRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserDto>> getUserById(@PathVariable Long id) {
+        return userRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<UserDto>> getUserByEmail(@PathVariable String email) {
+        return userRepository.findByEmail(email)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<? extends ResponseEntity<?>> searchUsers(@RequestParam String keyword,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int limit,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (isNdjson(accept)) {
+            return stream(cursor, afterId -> userRepository.findAllByKeywordAfter(keyword, afterId));
+        }
+        return page(cursor, limit, (afterId, pageLimit) -> userRepository.findByKeywordAfter(keyword, afterId, pageLimit));
+    }
+
+    // NDJSON은 명시적으로 요청한 경우만 - Accept가 없거나 */* 이면 서블릿 API처럼 JSON 페이지
+    private static boolean isNdjson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    // 하나 더 조회해서 다음 페이지 여부 판단 (서블릿 UserSearcher.keysetPage와 같은 규칙)
+    private Mono<ResponseEntity<CursorPage<UserDto>>> page(String cursor, int limit, PageQuery query) {
+        if (limit < 1) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        long afterId;
+        try {
+            afterId = cursor != null ? CursorCodec.decodeId(cursor) : 0L;
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        int pageLimit = Math.min(limit, maxPageLimit);
+        return query.find(afterId, pageLimit + 1)
+                .collectList()
+                .map(rows -> ResponseEntity.ok(keysetPage(rows, pageLimit)));
+    }
+
+    private Mono<ResponseEntity<Flux<UserDto>>> stream(String cursor, LongFunction<Flux<UserDto>> query) {
+        try {
+            long afterId = cursor != null ? CursorCodec.decodeId(cursor) : 0L;
+            return Mono.just(ResponseEntity.ok(query.apply(afterId)));
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+    }
+
+    private static CursorPage<UserDto> keysetPage(List<UserDto> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<UserDto> items = rows.subList(0, limit);
+        return new CursorPage<>(items, CursorCodec.encodeId(items.get(limit - 1).getId()));
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        Flux<UserDto> find(long afterId, int limit);
+    }
+}
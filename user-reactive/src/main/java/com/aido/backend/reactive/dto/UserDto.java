@@ -0,0 +1,41 @@
+package com.aido.backend.reactive.dto;
+
+// 서블릿 앱의 com.aido.backend.dto.UserDto와 같은 JSON 형태 (읽기 전용이라 검증 없음)
+public class UserDto {
+    
+    private Long id;
+    private String name;
+    private String email;
+    
+    public UserDto() {}
+    
+    public UserDto(Long id, String name, String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,85 @@
+package com.aido.backend.reactive.repository;
+
+import com.aido.backend.reactive.dto.UserDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// users 테이블 읽기 - 서블릿 앱의 DTO projection 쿼리(UserRepository)와 같은 SQL
+// Flux 결과는 구독자의 요청량만큼 드라이버에서 행을 읽어 옴 (backpressure)
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String COLUMNS = "SELECT id, name, email FROM users ";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<UserDto> findById(Long id) {
+        return databaseClient.sql(COLUMNS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toDto)
+                .one();
+    }
+
+    public Mono<UserDto> findByEmail(String email) {
+        return databaseClient.sql(COLUMNS + "WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toDto)
+                .one();
+    }
+
+    // keyset 페이지네이션 - PK 범위 스캔으로 OFFSET 없이 조회
+    public Flux<UserDto> findPageAfter(long afterId, int limit) {
+        return databaseClient.sql(COLUMNS + "WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    // 서블릿 앱 UserRepository.findByKeywordAfter와 같은 LIKE 조건
+    public Flux<UserDto> findByKeywordAfter(String keyword, long afterId, int limit) {
+        return databaseClient.sql(COLUMNS + "WHERE (name LIKE :pattern OR email LIKE :pattern) AND id > :afterId " +
+                        "ORDER BY id LIMIT :limit")
+                .bind("pattern", "%" + keyword + "%")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    // NDJSON 스트림용 - 커서 이후 전체 (읽는 속도는 구독자 요청량이 결정)
+    public Flux<UserDto> findAllAfter(long afterId) {
+        return databaseClient.sql(COLUMNS + "WHERE id > :afterId ORDER BY id")
+                .bind("afterId", afterId)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    public Flux<UserDto> findAllByKeywordAfter(String keyword, long afterId) {
+        return databaseClient.sql(COLUMNS + "WHERE (name LIKE :pattern OR email LIKE :pattern) AND id > :afterId " +
+                        "ORDER BY id")
+                .bind("pattern", "%" + keyword + "%")
+                .bind("afterId", afterId)
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    public Flux<UserDto> findAll() {
+        return databaseClient.sql(COLUMNS + "ORDER BY id")
+                .map(ReactiveUserRepository::toDto)
+                .all();
+    }
+
+    private static UserDto toDto(Readable row) {
+        return new UserDto(row.get("id", Long.class), row.get("name", String.class), row.get("email", String.class));
+    }
+}
@@ -0,0 +1,28 @@
+package com.aido.backend.reactive.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 서블릿 앱의 com.aido.backend.util.CursorCodec과 같은 id 커서 형식 - 두 앱이 발급한 커서를 서로 받을 수 있음
+public class CursorCodec {
+
+    private static final String ID_PREFIX = "id:";
+
+    public static String encodeId(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((ID_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decodeId(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(ID_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(ID_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 파싱 오류 포함
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
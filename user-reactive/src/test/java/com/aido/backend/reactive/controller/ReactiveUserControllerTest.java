@@ -0,0 +1,169 @@
+package com.aido.backend.reactive.controller;
+
+import com.aido.backend.reactive.dto.UserDto;
+import com.aido.backend.reactive.repository.ReactiveUserRepository;
+import com.aido.backend.reactive.util.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///users-reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always"
+})
+@AutoConfigureWebTestClient
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Test
+    @DisplayName("Should get user by ID when user exists")
+    void shouldGetUserByIdWhenUserExists() {
+        // When & Then
+        webTestClient.get().uri("/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.email").isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when user not found by email")
+    void shouldReturn404WhenUserNotFoundByEmail() {
+        // When & Then
+        webTestClient.get().uri("/api/users/email/nobody@example.com")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should get user by email when user exists")
+    void shouldGetUserByEmailWhenUserExists() {
+        // When & Then
+        webTestClient.get().uri("/api/users/email/jane@example.com")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should page users with the servlet cursor format and envelope")
+    void shouldPageUsersWithServletCursorFormatAndEnvelope() {
+        // When & Then
+        webTestClient.get().uri("/api/users?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].id").isEqualTo(1)
+                .jsonPath("$.items[1].id").isEqualTo(2)
+                .jsonPath("$.next").isEqualTo(CursorCodec.encodeId(2L));
+
+        webTestClient.get().uri("/api/users?cursor={cursor}&limit=2", CursorCodec.encodeId(2L))
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(3)
+                .jsonPath("$.next").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should page search results with the envelope")
+    void shouldPageSearchResultsWithEnvelope() {
+        // When & Then
+        webTestClient.get().uri("/api/users/search?keyword=Jo&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].name").isEqualTo("John Doe")
+                .jsonPath("$.next").isEqualTo(CursorCodec.encodeId(1L));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cursor")
+    void shouldRejectInvalidCursor() {
+        // When & Then
+        webTestClient.get().uri("/api/users?cursor=bad!")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/users/search?keyword=Jo&cursor={cursor}", "b2Zmc2V0OjE")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should stream all users after cursor as NDJSON")
+    void shouldStreamAllUsersAfterCursorAsNdjson() {
+        // When
+        List<UserDto> users = webTestClient.get().uri("/api/users?cursor={cursor}", CursorCodec.encodeId(1L))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(users).extracting(UserDto::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should stream search results as NDJSON")
+    void shouldStreamSearchResultsAsNdjson() {
+        // When
+        List<UserDto> users = webTestClient.get().uri("/api/users/search?keyword=Jo")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(UserDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(users).extracting(UserDto::getName).containsExactly("John Doe", "Johnny Cash");
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive limit")
+    void shouldRejectNonPositiveLimit() {
+        // When & Then
+        webTestClient.get().uri("/api/users?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should emit rows only as the subscriber requests them")
+    void shouldEmitRowsOnDemand() {
+        // When & Then
+        StepVerifier.create(userRepository.findAll(), 1)
+                .expectNextMatches(user -> user.getId() == 1L)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
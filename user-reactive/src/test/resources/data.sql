@@ -0,0 +1,3 @@
+INSERT INTO users (name, email) VALUES ('John Doe', 'john@example.com');
+INSERT INTO users (name, email) VALUES ('Jane Doe', 'jane@example.com');
+INSERT INTO users (name, email) VALUES ('Johnny Cash', 'cash@example.com');